@@ -66,6 +66,7 @@ CREATE TABLE DONG.`member_challenge`
 (
     `is_success`        bit(1)                                              DEFAULT NULL,
     `total_score`       int                                                 DEFAULT NULL,
+    `score_version`     bigint     NOT NULL                                 DEFAULT 0,
     `additional_reward` bigint                                              DEFAULT NULL,
     `base_reward`       bigint                                              DEFAULT NULL,
     `created_at`        datetime(6)                                         DEFAULT NULL,
@@ -88,21 +89,22 @@ CREATE TABLE DONG.`consumption`
 (
     `created_at`                datetime(6)  DEFAULT NULL,
     `deleted_at`                datetime(6)  DEFAULT NULL,
+    `transacted_at`             datetime(6)  DEFAULT NULL,
     `transaction_after_balance` bigint       DEFAULT NULL,
     `transaction_balance`       bigint       DEFAULT NULL,
     `updated_at`                datetime(6)  DEFAULT NULL,
     `id`                        binary(16) NOT NULL,
     `member_id`                 binary(16)   DEFAULT NULL,
     `transaction_account_no`    varchar(255) DEFAULT NULL,
-    `transaction_date`          varchar(255) DEFAULT NULL,
     `transaction_memo`          varchar(255) DEFAULT NULL,
     `transaction_summary`       varchar(255) DEFAULT NULL,
-    `transaction_time`          varchar(255) DEFAULT NULL,
     `transaction_type`          varchar(255) DEFAULT NULL,
     `transaction_type_name`     varchar(255) DEFAULT NULL,
     `transaction_unique_no`     varchar(255) DEFAULT NULL,
+    `transfer_type`             enum ('CHALLENGE','COFFEE','DELIVERY','DRINK','QUIZ','SEVEN') DEFAULT NULL,
     PRIMARY KEY (`id`),
-    KEY `FKra4hpn2ur20o0p56dsvdodj94` (`member_id`),
+    UNIQUE KEY `uk_consumption_member_unique_no` (`member_id`, `transaction_unique_no`),
+    KEY `idx_consumption_member_type_date` (`member_id`, `transfer_type`, `transacted_at`),
     CONSTRAINT `FKra4hpn2ur20o0p56dsvdodj94` FOREIGN KEY (`member_id`) REFERENCES `member` (`id`)
 ) ENGINE = InnoDB
   DEFAULT CHARSET = utf8mb4;
@@ -115,6 +117,7 @@ CREATE TABLE DONG.`daily_score`
     `member_challenge_id` binary(16) DEFAULT NULL,
     PRIMARY KEY (`id`),
     KEY `FK36en58l32c8r7ei87cl4gsii3` (`member_challenge_id`),
+    UNIQUE KEY `uk_daily_score_member_challenge_date` (`member_challenge_id`, `date`),
     CONSTRAINT `FK36en58l32c8r7ei87cl4gsii3` FOREIGN KEY (`member_challenge_id`) REFERENCES `member_challenge` (`id`)
 ) ENGINE = InnoDB
   DEFAULT CHARSET = utf8mb4;
@@ -139,6 +142,7 @@ CREATE TABLE DONG.`message`
     `member_id`  binary(16)   DEFAULT NULL,
     `room_id`    binary(16)   DEFAULT NULL,
     `message`    varchar(255) DEFAULT NULL,
+    `send_at`    varchar(255) DEFAULT NULL,
     PRIMARY KEY (`id`),
     KEY `FK4msccpwmxulmw875edu7p352d` (`member_id`),
     KEY `FKl1kg5a2471cv6pkew0gdgjrmo` (`room_id`),
@@ -188,7 +192,8 @@ CREATE TABLE DONG.`quiz_member`
     `member_id`  binary(16)  DEFAULT NULL,
     `quiz_id`    binary(16)  DEFAULT NULL,
     PRIMARY KEY (`id`),
-    KEY `FK12peccx2dtulmtm31oofjbw61` (`member_id`),
+    KEY `idx_quiz_member_member_solved` (`member_id`, `solved_at`),
+    KEY `idx_quiz_member_solved_member` (`solved_at`, `member_id`),
     KEY `FKe5ckx4p03i3utc2a413uaxahr` (`quiz_id`),
     CONSTRAINT `FK12peccx2dtulmtm31oofjbw61` FOREIGN KEY (`member_id`) REFERENCES `member` (`id`),
     CONSTRAINT `FKe5ckx4p03i3utc2a413uaxahr` FOREIGN KEY (`quiz_id`) REFERENCES `quiz` (`id`)
@@ -196,14 +201,155 @@ CREATE TABLE DONG.`quiz_member`
   DEFAULT CHARSET = utf8mb4;
 
 
-CREATE TABLE DONG.`score_entries`
+CREATE TABLE DONG.`score_event`
 (
-    `current_total_score` int          DEFAULT NULL,
-    `score`               int          DEFAULT NULL,
-    `daily_score_id`      binary(16) NOT NULL,
+    `created_at`          datetime(6)  DEFAULT NULL,
+    `current_total_score` int        NOT NULL,
+    `score`               int        NOT NULL,
+    `daily_score_id`      binary(16)   DEFAULT NULL,
+    `id`                  binary(16) NOT NULL,
+    `member_challenge_id` binary(16)   DEFAULT NULL,
     `description`         varchar(255) DEFAULT NULL,
-    KEY `FKe23oh1ywc5mgk76qost22vc6q` (`daily_score_id`),
-    CONSTRAINT `FKe23oh1ywc5mgk76qost22vc6q` FOREIGN KEY (`daily_score_id`) REFERENCES `daily_score` (`id`)
+    PRIMARY KEY (`id`),
+    KEY `idx_score_event_daily_score` (`daily_score_id`, `id`),
+    KEY `idx_score_event_member_challenge` (`member_challenge_id`, `id`),
+    CONSTRAINT `fk_score_event_daily_score` FOREIGN KEY (`daily_score_id`) REFERENCES `daily_score` (`id`)
+) ENGINE = InnoDB
+  DEFAULT CHARSET = utf8mb4;
+
+CREATE TABLE DONG.`transaction_ledger`
+(
+    `created_at`                datetime(6)  DEFAULT NULL,
+    `deleted_at`                datetime(6)  DEFAULT NULL,
+    `updated_at`                datetime(6)  DEFAULT NULL,
+    `transacted_at`             datetime(6)  DEFAULT NULL,
+    `amount`                    bigint       DEFAULT NULL,
+    `transaction_after_balance` bigint       DEFAULT NULL,
+    `transaction_balance`       bigint       DEFAULT NULL,
+    `id`                        binary(16) NOT NULL,
+    `member_id`                 binary(16)   DEFAULT NULL,
+    `account_no`                varchar(255) DEFAULT NULL,
+    `transfer_type`             enum ('CHALLENGE','COFFEE','DELIVERY','DRINK','QUIZ','SEVEN') DEFAULT NULL,
+    `transaction_account_no`    varchar(255) DEFAULT NULL,
+    `transaction_memo`          varchar(255) DEFAULT NULL,
+    `transaction_summary`       varchar(255) DEFAULT NULL,
+    `transaction_type`          varchar(255) DEFAULT NULL,
+    `transaction_type_name`     varchar(255) DEFAULT NULL,
+    `transaction_unique_no`     varchar(255) DEFAULT NULL,
+    PRIMARY KEY (`id`),
+    UNIQUE KEY `uk_ledger_account_unique_no` (`account_no`, `transaction_unique_no`),
+    KEY `idx_ledger_member_type_date` (`member_id`, `transfer_type`, `transacted_at`),
+    CONSTRAINT `fk_ledger_member` FOREIGN KEY (`member_id`) REFERENCES `member` (`id`)
+) ENGINE = InnoDB
+  DEFAULT CHARSET = utf8mb4;
+
+CREATE TABLE DONG.`ledger_watermark`
+(
+    `created_at`                 datetime(6)  DEFAULT NULL,
+    `deleted_at`                 datetime(6)  DEFAULT NULL,
+    `updated_at`                 datetime(6)  DEFAULT NULL,
+    `last_transacted_at`         datetime(6)  DEFAULT NULL,
+    `synced_from`                date         DEFAULT NULL,
+    `synced_to`                  date         DEFAULT NULL,
+    `id`                         binary(16) NOT NULL,
+    `member_id`                  binary(16)   DEFAULT NULL,
+    `account_no`                 varchar(255) DEFAULT NULL,
+    `last_transaction_unique_no` varchar(255) DEFAULT NULL,
+    PRIMARY KEY (`id`),
+    UNIQUE KEY `uk_watermark_member_account` (`member_id`, `account_no`),
+    CONSTRAINT `fk_watermark_member` FOREIGN KEY (`member_id`) REFERENCES `member` (`id`)
+) ENGINE = InnoDB
+  DEFAULT CHARSET = utf8mb4;
+
+CREATE TABLE DONG.`daily_consumption_rollup`
+(
+    `consumed_on`   date       DEFAULT NULL,
+    `created_at`    datetime(6) DEFAULT NULL,
+    `deleted_at`    datetime(6) DEFAULT NULL,
+    `updated_at`    datetime(6) DEFAULT NULL,
+    `amount`        bigint     NOT NULL,
+    `id`            binary(16) NOT NULL,
+    `member_id`     binary(16) DEFAULT NULL,
+    `transfer_type` enum ('CHALLENGE','COFFEE','DELIVERY','DRINK','QUIZ','SEVEN') DEFAULT NULL,
+    PRIMARY KEY (`id`),
+    UNIQUE KEY `uk_rollup_member_type_date` (`member_id`, `transfer_type`, `consumed_on`),
+    CONSTRAINT `fk_rollup_member` FOREIGN KEY (`member_id`) REFERENCES `member` (`id`)
+) ENGINE = InnoDB
+  DEFAULT CHARSET = utf8mb4;
+
+CREATE TABLE DONG.`fever_time_rule`
+(
+    `day_of_week`          enum ('MONDAY','TUESDAY','WEDNESDAY','THURSDAY','FRIDAY','SATURDAY','SUNDAY') DEFAULT NULL,
+    `start_time`           time         NOT NULL,
+    `end_time`             time         NOT NULL,
+    `notify_time`          time         DEFAULT NULL,
+    `score`                int          NOT NULL,
+    `enabled`              bit(1)       NOT NULL,
+    `id`                   binary(16)   NOT NULL,
+    `challenge_type`       enum ('CONSUMPTION_COFFEE','CONSUMPTION_DELIVERY','CONSUMPTION_DRINK','QUIZ_SOLBEING','SAVINGS_SEVEN') NOT NULL,
+    `label`                varchar(255) NOT NULL,
+    `notification_title`   varchar(255) DEFAULT NULL,
+    `notification_content` varchar(255) DEFAULT NULL,
+    PRIMARY KEY (`id`)
+) ENGINE = InnoDB
+  DEFAULT CHARSET = utf8mb4;
+
+-- 피버타임 규칙 (end_time <= start_time 이면 다음날 종료, score 0은 알림 전용)
+INSERT INTO DONG.fever_time_rule (id, challenge_type, day_of_week, start_time, end_time, notify_time, score, label,
+                                  notification_title, notification_content, enabled)
+VALUES (UNHEX(REPLACE(UUID(), '-', '')), 'CONSUMPTION_COFFEE', NULL, '07:00:00', '10:00:00', NULL, 2, '[FEVER] 7AM-10AM',
+        '챌린지 피버 타임 [커피]', '커피 챌린지 오전 피버 타임 (7시 부터 10시)', 1),
+       (UNHEX(REPLACE(UUID(), '-', '')), 'CONSUMPTION_COFFEE', NULL, '11:00:00', '14:00:00', NULL, 3, '[FEVER] 11AM-2PM',
+        '챌린지 피버 타임 [커피]', '커피 챌린지 오후 피버 타임 (11시 부터 14시)', 1),
+       (UNHEX(REPLACE(UUID(), '-', '')), 'CONSUMPTION_DRINK', 'FRIDAY', '00:00:00', '00:00:00', NULL, 5, '[FEVER] Friday',
+        NULL, NULL, 1),
+       (UNHEX(REPLACE(UUID(), '-', '')), 'CONSUMPTION_DRINK', 'SATURDAY', '00:00:00', '00:00:00', '12:00:00', 5, '[FEVER] Saturday',
+        '챌린지 피버 타임 [음주]', '토요일 하루 음주 대신 산책은 어떤가요?', 1),
+       (UNHEX(REPLACE(UUID(), '-', '')), 'CONSUMPTION_DRINK', 'SUNDAY', '00:00:00', '00:00:00', '12:00:00', 0, '[NOTICE] Sunday',
+        '챌린지 피버 타임 [음주]', '월요일을 위해 술 대신 음악 듣기는 어떤가요?', 1),
+       (UNHEX(REPLACE(UUID(), '-', '')), 'CONSUMPTION_DELIVERY', NULL, '21:00:00', '02:00:00', NULL, 5, '[FEVER] 9PM-2AM',
+        '챌린지 피버 타임 [배달음식]', '배달 음식을 참으면 건강과 지갑까지 1석 2조 ??? 완전 럭키비키잖아~', 1);
+
+CREATE TABLE DONG.`scheduler_lock`
+(
+    `locked_at`  datetime(6)  NOT NULL,
+    `lock_until` datetime(6)  NOT NULL,
+    `name`       varchar(64)  NOT NULL,
+    `owner`      varchar(255) NOT NULL,
+    PRIMARY KEY (`name`)
+) ENGINE = InnoDB
+  DEFAULT CHARSET = utf8mb4;
+
+CREATE TABLE DONG.`notification_outbox`
+(
+    `attempts`        int           NOT NULL,
+    `created_at`      datetime(6)   NOT NULL,
+    `next_attempt_at` datetime(6)   NOT NULL,
+    `sent_at`         datetime(6)   DEFAULT NULL,
+    `id`              binary(16)    NOT NULL,
+    `member_id`       binary(16)    NOT NULL,
+    `status`          enum ('PENDING','SENT','FAILED') NOT NULL,
+    `title`           varchar(255)  NOT NULL,
+    `content`         varchar(1000) NOT NULL,
+    `last_error`      varchar(255)  DEFAULT NULL,
+    PRIMARY KEY (`id`),
+    KEY `idx_outbox_status_next_attempt` (`status`, `next_attempt_at`),
+    KEY `idx_outbox_status_created` (`status`, `created_at`)
+) ENGINE = InnoDB
+  DEFAULT CHARSET = utf8mb4;
+
+CREATE TABLE DONG.`winner_draw`
+(
+    `id`              binary(16)   NOT NULL,
+    `draw_key`        varchar(100) NOT NULL,
+    `seed`            bigint       NOT NULL,
+    `candidate_count` bigint       NOT NULL,
+    `total_weight`    bigint       NOT NULL,
+    `winner_count`    int          NOT NULL,
+    `winner_ids`      text         NOT NULL,
+    `created_at`      datetime(6)  DEFAULT NULL,
+    PRIMARY KEY (`id`),
+    KEY `idx_winner_draw_key` (`draw_key`, `id`)
 ) ENGINE = InnoDB
   DEFAULT CHARSET = utf8mb4;
 
@@ -493,6 +639,16 @@ FROM DONG.member_challenge mc
                                     SELECT 9) c) seq
 WHERE DATE_ADD(c.start_date, INTERVAL seq.seq DAY) <= LEAST(c.end_date, CURDATE());
 
+-- 점수 시드 데이터는 임시 테이블에서 누적 점수 계산 후 score_event로 이관
+CREATE TABLE DONG.`score_entries`
+(
+    `current_total_score` int          DEFAULT NULL,
+    `score`               int          DEFAULT NULL,
+    `daily_score_id`      binary(16) NOT NULL,
+    `description`         varchar(255) DEFAULT NULL
+) ENGINE = InnoDB
+  DEFAULT CHARSET = utf8mb4;
+
 -- DAILY_SCORE 생성
 INSERT INTO DONG.score_entries (daily_score_id, description, score, current_total_score)
 SELECT ds.id,
@@ -579,6 +735,21 @@ SET ds.total_score = se.max_score
 WHERE ds.total_score != se.max_score
    OR ds.total_score IS NULL;
 
+-- score_entries -> score_event 이관 (일자, 누적 점수 순으로 id 부여)
+INSERT INTO DONG.score_event (id, daily_score_id, member_challenge_id, description, score, current_total_score, created_at)
+SELECT UNHEX(REPLACE(UUID(), '-', '')),
+       se.daily_score_id,
+       ds.member_challenge_id,
+       se.description,
+       se.score,
+       se.current_total_score,
+       TIMESTAMP(ds.date)
+FROM DONG.score_entries se
+         JOIN DONG.daily_score ds ON ds.id = se.daily_score_id
+ORDER BY ds.member_challenge_id, ds.date, se.current_total_score;
+
+DROP TABLE DONG.score_entries;
+
 -- MemberChallenge의 total_score 업데이트
 UPDATE DONG.member_challenge mc
     JOIN (SELECT member_challenge_id, MAX(total_score) AS max_total_score
@@ -692,9 +863,31 @@ VALUES (UNHEX(REPLACE(UUID(), '-', '')), '부채는 기업의 자산에서 빚
        (UNHEX(REPLACE(UUID(), '-', '')), '개인 신용 등급은 금융 기관에서 대출 심사를 할 때 중요한 요소로 고려된다.', TRUE, '개인 신용 등급은 대출 심사 시 중요한 평가 요소입니다.'),
        (UNHEX(REPLACE(UUID(), '-', '')), '물가가 상승할 때, 명목 금리와 실질 금리는 동일하게 상승한다.', FALSE, '물가 상승 시 명목 금리는 상승하지만 실질 금리는 인플레이션에 따라 달라집니다.');
 
+-- 소비내역 시드 데이터는 문자열 일자/시각 형식이므로 임시 테이블에 적재 후 변환
+CREATE TABLE DONG.`consumption_seed`
+(
+    `created_at`                datetime(6)  DEFAULT NULL,
+    `deleted_at`                datetime(6)  DEFAULT NULL,
+    `transaction_after_balance` bigint       DEFAULT NULL,
+    `transaction_balance`       bigint       DEFAULT NULL,
+    `updated_at`                datetime(6)  DEFAULT NULL,
+    `id`                        binary(16) NOT NULL,
+    `member_id`                 binary(16)   DEFAULT NULL,
+    `transaction_account_no`    varchar(255) DEFAULT NULL,
+    `transaction_date`          varchar(255) DEFAULT NULL,
+    `transaction_memo`          varchar(255) DEFAULT NULL,
+    `transaction_summary`       varchar(255) DEFAULT NULL,
+    `transaction_time`          varchar(255) DEFAULT NULL,
+    `transaction_type`          varchar(255) DEFAULT NULL,
+    `transaction_type_name`     varchar(255) DEFAULT NULL,
+    `transaction_unique_no`     varchar(255) DEFAULT NULL,
+    PRIMARY KEY (`id`)
+) ENGINE = InnoDB
+  DEFAULT CHARSET = utf8mb4;
+
 -- SQL Insert statements for the consumption table with unique UUIDs and transaction_unique_no
 
-INSERT INTO DONG.`consumption` (created_at, updated_at, deleted_at,
+INSERT INTO DONG.`consumption_seed` (created_at, updated_at, deleted_at,
                                 transaction_after_balance, transaction_balance,
                                 id, member_id, transaction_account_no,
                                 transaction_date, transaction_memo, transaction_summary,
@@ -954,7 +1147,7 @@ VALUES
 
 -- SQL Insert statements for the consumption table with "COFFEE출금" transactions from March to August
 
-INSERT INTO DONG.consumption (created_at, updated_at, deleted_at,
+INSERT INTO DONG.consumption_seed (created_at, updated_at, deleted_at,
                               transaction_after_balance, transaction_balance,
                               id, member_id, transaction_account_no,
                               transaction_date, transaction_memo, transaction_summary,
@@ -1213,7 +1406,7 @@ VALUES
  '440000', '2', '출금(이체)', '1050');
 
 -- Insert 50 records with varying amounts for DELIVERY 출금
-INSERT INTO DONG.consumption
+INSERT INTO DONG.consumption_seed
 (created_at, updated_at, deleted_at, transaction_balance, transaction_after_balance, id, member_id,
  transaction_account_no, transaction_date, transaction_memo, transaction_summary, transaction_time, transaction_type,
  transaction_type_name, transaction_unique_no)
@@ -1348,7 +1541,7 @@ VALUES
 (NOW(), NOW(), NULL, 362000, 347000, UNHEX(REPLACE(UUID(), '-', '')), 0x01919C5FBAC69C61BAD76CE5F992440E,
  '0881367640491160', '20240915', 'Delivery payment', 'DELIVERY출금', '513500', '2', '출금(이체)', '2043');
 
-INSERT INTO DONG.consumption (created_at, updated_at, deleted_at, transaction_balance,
+INSERT INTO DONG.consumption_seed (created_at, updated_at, deleted_at, transaction_balance,
                               transaction_after_balance, id, member_id,
                               transaction_account_no, transaction_date, transaction_memo,
                               transaction_summary, transaction_unique_no, transaction_type,
@@ -1444,3 +1637,64 @@ VALUES
 -- Record 30
 (NOW(), NOW(), NULL, 598000, 584000, UNHEX(REPLACE(UUID(), '-', '')), 0x01919C5FBAC69C61BAD76CE5F992440E,
  '0881367640491160', '20240725', 'Drink payment', 'DRINK출금', '2080', '2', '출금(이체)');
+
+-- 시드의 transaction_time은 24시 이상(예: '253000' = 다음 날 01:30:00)을 포함하므로
+-- STR_TO_DATE로 한 번에 변환하지 않고 날짜 + 초 단위 오프셋으로 변환해 날짜를 넘김
+INSERT INTO DONG.consumption (created_at, updated_at, deleted_at, transacted_at,
+                              transaction_after_balance, transaction_balance,
+                              id, member_id, transaction_account_no, transaction_memo, transaction_summary,
+                              transaction_type, transaction_type_name, transaction_unique_no, transfer_type)
+SELECT created_at,
+       updated_at,
+       deleted_at,
+       TIMESTAMPADD(SECOND,
+                    CAST(SUBSTRING(COALESCE(transaction_time, '000000'), 1, 2) AS UNSIGNED) * 3600
+                        + CAST(SUBSTRING(COALESCE(transaction_time, '000000'), 3, 2) AS UNSIGNED) * 60
+                        + CAST(SUBSTRING(COALESCE(transaction_time, '000000'), 5, 2) AS UNSIGNED),
+                    STR_TO_DATE(transaction_date, '%Y%m%d')),
+       transaction_after_balance,
+       transaction_balance,
+       id,
+       member_id,
+       transaction_account_no,
+       transaction_memo,
+       transaction_summary,
+       transaction_type,
+       transaction_type_name,
+       transaction_unique_no,
+       CASE
+           WHEN transaction_summary LIKE 'CHALLENGE%' THEN 'CHALLENGE'
+           WHEN transaction_summary LIKE 'COFFEE%' THEN 'COFFEE'
+           WHEN transaction_summary LIKE 'DRINK%' THEN 'DRINK'
+           WHEN transaction_summary LIKE 'DELIVERY%' THEN 'DELIVERY'
+           WHEN transaction_summary LIKE 'SEVEN%' THEN 'SEVEN'
+           WHEN transaction_summary LIKE 'QUIZ%' THEN 'QUIZ'
+           END
+FROM DONG.consumption_seed;
+
+-- 변환에 실패한(transacted_at이 NULL인) 행이 있으면 스크립트 중단
+DELIMITER //
+CREATE PROCEDURE DONG.assert_consumption_transacted_at()
+BEGIN
+    IF EXISTS (SELECT 1 FROM DONG.consumption WHERE transacted_at IS NULL) THEN
+        SIGNAL SQLSTATE '45000' SET MESSAGE_TEXT = 'consumption seed has rows with NULL transacted_at';
+    END IF;
+END //
+DELIMITER ;
+
+CALL DONG.assert_consumption_transacted_at();
+DROP PROCEDURE DONG.assert_consumption_transacted_at;
+
+DROP TABLE DONG.consumption_seed;
+
+-- 등록된 소비내역 기준 일자별 소비 집계 초기화
+INSERT INTO DONG.daily_consumption_rollup (created_at, updated_at, deleted_at, id, member_id, transfer_type, consumed_on, amount)
+SELECT NOW(), NOW(), NULL, UNHEX(REPLACE(UUID(), '-', '')), c.member_id, c.transfer_type, c.consumed_on, c.amount
+FROM (SELECT member_id,
+             transfer_type,
+             DATE(transacted_at)                                       AS consumed_on,
+             SUM(ABS(transaction_after_balance - transaction_balance)) AS amount
+      FROM DONG.consumption
+      WHERE deleted_at IS NULL
+        AND transfer_type IS NOT NULL
+      GROUP BY member_id, transfer_type, consumed_on) c;
@@ -1,71 +1,282 @@
 package com.shinhan.dongibuyeo.config;
 
 import com.shinhan.dongibuyeo.domain.alarm.service.NotificationService;
+import com.shinhan.dongibuyeo.domain.challenge.batch.*;
+import com.shinhan.dongibuyeo.domain.challenge.dto.MemberChallengeSettlement;
 import com.shinhan.dongibuyeo.domain.challenge.entity.Challenge;
 import com.shinhan.dongibuyeo.domain.challenge.entity.ChallengeStatus;
+import com.shinhan.dongibuyeo.domain.challenge.entity.ChallengeType;
+import com.shinhan.dongibuyeo.domain.challenge.entity.MemberChallenge;
+import com.shinhan.dongibuyeo.domain.challenge.entity.MemberChallengeStatus;
+import com.shinhan.dongibuyeo.domain.challenge.exception.ChallengeNotFoundException;
 import com.shinhan.dongibuyeo.domain.challenge.repository.ChallengeRepository;
+import com.shinhan.dongibuyeo.domain.challenge.repository.MemberChallengeRepository;
+import com.shinhan.dongibuyeo.domain.challenge.score.leaderboard.LeaderboardRegistry;
 import com.shinhan.dongibuyeo.domain.challenge.service.ChallengeRewardService;
+import com.shinhan.dongibuyeo.domain.challenge.service.SettlementEvaluator;
+import com.shinhan.dongibuyeo.global.exception.ClientException;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.batch.core.Job;
+import org.springframework.batch.core.SkipListener;
 import org.springframework.batch.core.Step;
-
+import org.springframework.batch.core.configuration.annotation.StepScope;
 import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.partition.support.Partitioner;
 import org.springframework.batch.core.repository.JobRepository;
 import org.springframework.batch.core.step.builder.StepBuilder;
 import org.springframework.batch.core.step.tasklet.Tasklet;
+import org.springframework.batch.item.ItemProcessor;
+import org.springframework.batch.item.database.JpaPagingItemReader;
+import org.springframework.batch.item.database.builder.JpaPagingItemReaderBuilder;
 import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.web.reactive.function.client.WebClientException;
 
 import java.time.LocalDate;
-import java.util.List;
-
-
+import java.util.Map;
+import java.util.UUID;
 
+/**
+ * 챌린지 정산 배치
+ * - 정산 대상일(settlementDate)에 종료된 챌린지 1개당 파티션 1개, 파티션 안에서는 회원 챌린지를 chunk 단위로 처리
+ * - 동일 settlementDate로 재실행하면 실패한 파티션의 마지막 커밋 지점부터 이어서 처리
+ */
+@Slf4j
 @Configuration
 public class BatchConfig {
 
-    private ChallengeRepository challengeRepository;
-    private ChallengeRewardService challengeRewardService;
-    private NotificationService notificationService;
+    private static final String CHALLENGE_ID_PARAM = "#{stepExecutionContext['" + ChallengePartitioner.CHALLENGE_ID + "']}";
+
+    @Value("${shinhan.settlement.chunk-size}")
+    private int chunkSize;
+
+    @Value("${shinhan.settlement.grid-size}")
+    private int gridSize;
+
+    @Value("${shinhan.settlement.skip-limit}")
+    private int skipLimit;
+
+    @Value("${shinhan.settlement.retry-limit}")
+    private int retryLimit;
+
+    private final ChallengeRepository challengeRepository;
+    private final MemberChallengeRepository memberChallengeRepository;
+    private final ChallengeRewardService challengeRewardService;
+    private final NotificationService notificationService;
+    private final EntityManagerFactory entityManagerFactory;
+    private final LeaderboardRegistry leaderboardRegistry;
+    private final SettlementEvaluator settlementEvaluator;
 
-    public BatchConfig(ChallengeRepository challengeRepository,ChallengeRewardService challengeRewardService,NotificationService notificationService) {
+    public BatchConfig(ChallengeRepository challengeRepository, MemberChallengeRepository memberChallengeRepository, ChallengeRewardService challengeRewardService, NotificationService notificationService, EntityManagerFactory entityManagerFactory, LeaderboardRegistry leaderboardRegistry, SettlementEvaluator settlementEvaluator) {
         this.challengeRepository = challengeRepository;
+        this.memberChallengeRepository = memberChallengeRepository;
         this.challengeRewardService = challengeRewardService;
         this.notificationService = notificationService;
+        this.entityManagerFactory = entityManagerFactory;
+        this.leaderboardRegistry = leaderboardRegistry;
+        this.settlementEvaluator = settlementEvaluator;
     }
 
     @Bean
-    public Job testSimpleJob(PlatformTransactionManager transactionManager, JobRepository jobRepository) {
+    public Job settlementJob(JobRepository jobRepository, PlatformTransactionManager transactionManager) {
         return new JobBuilder("SETTLEMENT_JOB", jobRepository)
-                .start(testSimpleStep(transactionManager, jobRepository))
+                .start(partitionedStep("CONSUMPTION_BASE_REWARD_STEP", consumptionChallengePartitioner(null), consumptionBaseRewardStep(jobRepository, transactionManager), jobRepository))
+                .next(partitionedStep("CONSUMPTION_ADDITIONAL_REWARD_STEP", consumptionChallengePartitioner(null), consumptionAdditionalRewardStep(jobRepository, transactionManager), jobRepository))
+                .next(partitionedStep("SAVINGS_REWARD_STEP", savingsChallengePartitioner(null), savingsRewardStep(jobRepository, transactionManager), jobRepository))
+                .next(partitionedStep("SETTLEMENT_FINALIZE_STEP", endedChallengePartitioner(null), settlementFinalizeStep(jobRepository, transactionManager), jobRepository))
+                .build();
+    }
+
+    private Step partitionedStep(String name, Partitioner partitioner, Step workerStep, JobRepository jobRepository) {
+        SimpleAsyncTaskExecutor taskExecutor = new SimpleAsyncTaskExecutor("settlement-");
+        taskExecutor.setConcurrencyLimit(gridSize);
+
+        return new StepBuilder(name, jobRepository)
+                .partitioner(workerStep.getName(), partitioner)
+                .step(workerStep)
+                .gridSize(gridSize)
+                .taskExecutor(taskExecutor)
+                .build();
+    }
+
+    /**
+     * 소비 챌린지 기본 환급액 계산 (회원별 소비 내역 조회)
+     * - 청크 단위로 모아 SettlementEvaluator에서 동시에 평가
+     */
+    @Bean
+    public Step consumptionBaseRewardStep(JobRepository jobRepository, PlatformTransactionManager transactionManager) {
+        return new StepBuilder("CONSUMPTION_BASE_REWARD_WORKER", jobRepository)
+                .<MemberChallenge, MemberChallenge>chunk(chunkSize, transactionManager)
+                .reader(memberChallengeReader(null))
+                .processor(beforeCalculationFilter())
+                .writer(consumptionBaseRewardWriter(null))
+                .faultTolerant()
+                .retry(ClientException.class)
+                .retry(WebClientException.class)
+                .retryLimit(retryLimit)
+                .skip(ClientException.class)
+                .skip(WebClientException.class)
+                .skipLimit(skipLimit)
+                .listener(settlementSkipListener())
+                .build();
+    }
+
+    /**
+     * 소비 챌린지 추가 환급액 계산 (성공 회원 점수 순위 기반)
+     */
+    @Bean
+    public Step consumptionAdditionalRewardStep(JobRepository jobRepository, PlatformTransactionManager transactionManager) {
+        return new StepBuilder("CONSUMPTION_ADDITIONAL_REWARD_WORKER", jobRepository)
+                .<RankedMemberChallenge, MemberChallengeSettlement>chunk(chunkSize, transactionManager)
+                .reader(rankedSuccessMemberChallengeReader(null))
+                .processor(consumptionAdditionalRewardProcessor(null))
+                .writer(memberChallengeSettlementWriter())
+                .build();
+    }
+
+    /**
+     * 적금 챌린지 기본 환급액 계산
+     */
+    @Bean
+    public Step savingsRewardStep(JobRepository jobRepository, PlatformTransactionManager transactionManager) {
+        return new StepBuilder("SAVINGS_REWARD_WORKER", jobRepository)
+                .<MemberChallenge, MemberChallengeSettlement>chunk(chunkSize, transactionManager)
+                .reader(memberChallengeReader(null))
+                .processor(challengeRewardService::evaluateSavingsBaseReward)
+                .writer(memberChallengeSettlementWriter())
+                .build();
+    }
+
+    /**
+     * 챌린지 단위 마무리 (퀴즈 정산, 적금 추첨, 상태 변경, 종료 알림)
+     */
+    @Bean
+    public Step settlementFinalizeStep(JobRepository jobRepository, PlatformTransactionManager transactionManager) {
+        return new StepBuilder("SETTLEMENT_FINALIZE_WORKER", jobRepository)
+                .tasklet(settlementFinalizeTasklet(null), transactionManager)
+                .build();
+    }
+
+    @Bean
+    @StepScope
+    public ChallengePartitioner consumptionChallengePartitioner(@Value("#{jobParameters['settlementDate']}") LocalDate settlementDate) {
+        return new ChallengePartitioner(challengeRepository, settlementDate, challenge -> challenge.getType().isConsumptionType());
+    }
+
+    @Bean
+    @StepScope
+    public ChallengePartitioner savingsChallengePartitioner(@Value("#{jobParameters['settlementDate']}") LocalDate settlementDate) {
+        return new ChallengePartitioner(challengeRepository, settlementDate, challenge -> challenge.getType() == ChallengeType.SAVINGS_SEVEN);
+    }
+
+    @Bean
+    @StepScope
+    public ChallengePartitioner endedChallengePartitioner(@Value("#{jobParameters['settlementDate']}") LocalDate settlementDate) {
+        return new ChallengePartitioner(challengeRepository, settlementDate, challenge -> true);
+    }
+
+    @Bean
+    @StepScope
+    public JpaPagingItemReader<MemberChallenge> memberChallengeReader(@Value(CHALLENGE_ID_PARAM) String challengeId) {
+        return new JpaPagingItemReaderBuilder<MemberChallenge>()
+                .name("memberChallengeReader")
+                .entityManagerFactory(entityManagerFactory)
+                .queryString("SELECT mc FROM MemberChallenge mc " +
+                        "WHERE mc.challenge.id = :challengeId " +
+                        "ORDER BY mc.id")
+                .parameterValues(Map.of("challengeId", UUID.fromString(challengeId)))
+                .pageSize(chunkSize)
+                .transacted(false)
                 .build();
     }
 
     @Bean
-    public Step testSimpleStep(PlatformTransactionManager transactionManager, JobRepository jobRepository) {
-        return new StepBuilder("SETTLEMENT_STEP", jobRepository)
-                .tasklet(checkAndCompleteEndedChallengesTasklet(),transactionManager)
+    @StepScope
+    public RankedMemberChallengeReader rankedSuccessMemberChallengeReader(@Value(CHALLENGE_ID_PARAM) String challengeId) {
+        JpaPagingItemReader<MemberChallenge> delegate = new JpaPagingItemReaderBuilder<MemberChallenge>()
+                .name("rankedSuccessMemberChallengeReader")
+                .entityManagerFactory(entityManagerFactory)
+                .queryString("SELECT mc FROM MemberChallenge mc " +
+                        "WHERE mc.challenge.id = :challengeId AND mc.isSuccess = true " +
+                        "ORDER BY mc.totalScore DESC, mc.id")
+                .parameterValues(Map.of("challengeId", UUID.fromString(challengeId)))
+                .pageSize(chunkSize)
+                .transacted(false)
                 .build();
+        return new RankedMemberChallengeReader(delegate);
+    }
+
+    @Bean
+    public ItemProcessor<MemberChallenge, MemberChallenge> beforeCalculationFilter() {
+        return memberChallenge -> memberChallenge.getStatus() == MemberChallengeStatus.BEFORE_CALCULATION ? memberChallenge : null;
+    }
+
+    @Bean
+    @StepScope
+    public ConsumptionBaseRewardWriter consumptionBaseRewardWriter(@Value(CHALLENGE_ID_PARAM) String challengeId) {
+        UUID id = UUID.fromString(challengeId);
+        Challenge challenge = challengeRepository.findById(id)
+                .orElseThrow(() -> new ChallengeNotFoundException(id));
+
+        return new ConsumptionBaseRewardWriter(settlementEvaluator, challengeRewardService, memberChallengeSettlementWriter(), challenge);
+    }
+
+    @Bean
+    @StepScope
+    public ConsumptionAdditionalRewardProcessor consumptionAdditionalRewardProcessor(@Value(CHALLENGE_ID_PARAM) String challengeId) {
+        return new ConsumptionAdditionalRewardProcessor(challengeRepository, challengeRewardService, UUID.fromString(challengeId));
     }
 
     @Bean
-    public Tasklet checkAndCompleteEndedChallengesTasklet() {
+    @StepScope
+    public Tasklet settlementFinalizeTasklet(@Value(CHALLENGE_ID_PARAM) String challengeId) {
         return (contribution, chunkContext) -> {
-            LocalDate yesterday = LocalDate.now().minusDays(1);
-            List<Challenge> endedChallenges = challengeRepository.findChallengesByEndDate(yesterday);
-
-            endedChallenges.stream()
-                    .peek(challenge -> challengeRewardService.processConsumptionChallengeRewards(challenge))
-                    .peek(challenge -> challenge.updateStatus(ChallengeStatus.COMPLETED))
-                    .forEach(challenge -> notificationService.sendNotificationMemberChallenges(
-                            challenge.getChallengeMembers(),
-                            "챌린지 종료",
-                            "참여하신 챌린지가 종료되었습니다! 결과를 확인해주세요!"
-                    ));
+            UUID id = UUID.fromString(challengeId);
+            Challenge challenge = challengeRepository.findById(id)
+                    .orElseThrow(() -> new ChallengeNotFoundException(id));
+
+            switch (challenge.getType()) {
+                case QUIZ_SOLBEING -> challengeRewardService.settlementQuiz(challenge);
+                case SAVINGS_SEVEN -> challengeRewardService.drawSavingsWinners(challenge);
+                default -> {
+                }
+            }
+
+            challenge.updateStatus(ChallengeStatus.COMPLETED);
+            leaderboardRegistry.evict(id);
+            notificationService.sendNotificationMemberChallenges(
+                    challenge.getChallengeMembers(),
+                    "챌린지 종료",
+                    "참여하신 챌린지가 종료되었습니다! 결과를 확인해주세요!"
+            );
+            log.info("[Settlement] challenge {} completed", challenge.getId());
 
             return RepeatStatus.FINISHED;
         };
     }
 
+    @Bean
+    public MemberChallengeSettlementWriter memberChallengeSettlementWriter() {
+        return new MemberChallengeSettlementWriter(memberChallengeRepository);
+    }
+
+    @Bean
+    public SkipListener<MemberChallenge, MemberChallenge> settlementSkipListener() {
+        return new SkipListener<>() {
+            @Override
+            public void onSkipInProcess(MemberChallenge memberChallenge, Throwable t) {
+                log.error("[Settlement] skipped memberChallenge: {}", memberChallenge.getId(), t);
+            }
+
+            @Override
+            public void onSkipInWrite(MemberChallenge memberChallenge, Throwable t) {
+                log.error("[Settlement] skipped settlement write: {}", memberChallenge.getId(), t);
+            }
+        };
+    }
 }
@@ -0,0 +1,30 @@
+package com.shinhan.dongibuyeo.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+public class SettlementExecutorConfig {
+
+    private final int AWAIT_TERMINATION_SECONDS = 30;
+
+    @Value("${shinhan.settlement.evaluator-threads}")
+    private int evaluatorThreads;
+
+    /**
+     * 정산 평가(회원별 거래내역 조회) 전용 스레드 풀
+     * - 컨텍스트 종료 시 진행 중인 평가가 끝날 때까지 대기한 뒤 종료
+     */
+    @Bean
+    public ThreadPoolTaskExecutor settlementEvaluatorExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(evaluatorThreads);
+        executor.setMaxPoolSize(evaluatorThreads);
+        executor.setThreadNamePrefix("settlement-evaluator-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(AWAIT_TERMINATION_SECONDS);
+        return executor;
+    }
+}
@@ -1,6 +1,8 @@
 package com.shinhan.dongibuyeo.config;
 
 import com.shinhan.dongibuyeo.global.client.GlobalErrorFilter;
+import com.shinhan.dongibuyeo.global.client.UpstreamRateLimitFilter;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.reactive.function.client.WebClient;
@@ -10,10 +12,24 @@ public class WebClientConfig {
 
     private final String BASE_URL = "https://finopenapi.ssafy.io/ssafy/api/v1";
 
+    @Value("${shinhan.upstream.rate-limit-per-second}")
+    private int rateLimitPerSecond;
+
     @Bean
     public WebClient.Builder webClientBuilder() {
         return WebClient.builder()
                 .filter(new GlobalErrorFilter())
                 .baseUrl(BASE_URL);
     }
+
+    /**
+     * 정산 팬아웃(회원별 거래내역 동시 조회) 전용 클라이언트
+     * - 호출량 제한은 이 클라이언트에만 적용 (사용자 요청 경로는 제한하지 않음)
+     */
+    @Bean
+    public WebClient settlementWebClient(WebClient.Builder webClientBuilder) {
+        return webClientBuilder.clone()
+                .filters(filters -> filters.add(0, new UpstreamRateLimitFilter(rateLimitPerSecond)))
+                .build();
+    }
 }
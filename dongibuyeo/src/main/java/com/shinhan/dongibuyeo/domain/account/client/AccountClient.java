@@ -19,74 +19,98 @@ public class AccountClient {
     }
 
     public ShinhanMakeAccountResponse makeAccount(ShinhanMakeAccountRequest request) {
+        return makeAccountAsync(request)
+                .blockOptional()
+                .orElseThrow();
+    }
+
+    public Mono<ShinhanMakeAccountResponse> makeAccountAsync(ShinhanMakeAccountRequest request) {
         return webClient.post()
                 .uri("/edu/demandDeposit/createDemandDepositAccount")
                 .accept(MediaType.APPLICATION_JSON)
                 .acceptCharset(StandardCharsets.UTF_8)
                 .bodyValue(request)
                 .retrieve()
-                .bodyToMono(ShinhanMakeAccountResponse.class)
+                .bodyToMono(ShinhanMakeAccountResponse.class);
+    }
+
+    public ShinhanGetAccountsResponse getAllAccountsByMember(ShinhanGetAccountsRequest request) {
+        return getAllAccountsByMemberAsync(request)
                 .blockOptional()
                 .orElseThrow();
     }
 
-    public ShinhanGetAccountsResponse getAllAccountsByMember(ShinhanGetAccountsRequest request) {
+    public Mono<ShinhanGetAccountsResponse> getAllAccountsByMemberAsync(ShinhanGetAccountsRequest request) {
         return webClient.post()
                 .uri("/edu/demandDeposit/inquireDemandDepositAccountList")
                 .accept(MediaType.APPLICATION_JSON)
                 .acceptCharset(StandardCharsets.UTF_8)
                 .bodyValue(request)
                 .retrieve()
-                .bodyToMono(ShinhanGetAccountsResponse.class)
+                .bodyToMono(ShinhanGetAccountsResponse.class);
+    }
+
+    public ShinhanGetAccountResponse getAccountByAccountNo(ShinhanGetAccountRequest request) {
+        return getAccountByAccountNoAsync(request)
                 .blockOptional()
                 .orElseThrow();
     }
 
-    public ShinhanGetAccountResponse getAccountByAccountNo(ShinhanGetAccountRequest request) {
+    public Mono<ShinhanGetAccountResponse> getAccountByAccountNoAsync(ShinhanGetAccountRequest request) {
         return webClient.post()
                 .uri("/edu/demandDeposit/inquireDemandDepositAccount")
                 .accept(MediaType.APPLICATION_JSON)
                 .acceptCharset(StandardCharsets.UTF_8)
                 .bodyValue(request)
                 .retrieve()
-                .bodyToMono(ShinhanGetAccountResponse.class)
+                .bodyToMono(ShinhanGetAccountResponse.class);
+    }
+
+    public ShinhanTransferResponse accountTransfer(ShinhanTransferRequest request) {
+        return accountTransferAsync(request)
                 .blockOptional()
                 .orElseThrow();
     }
 
-    public ShinhanTransferResponse accountTransfer(ShinhanTransferRequest request) {
+    public Mono<ShinhanTransferResponse> accountTransferAsync(ShinhanTransferRequest request) {
         return webClient.post()
                 .uri("/edu/demandDeposit/updateDemandDepositAccountTransfer")
                 .accept(MediaType.APPLICATION_JSON)
                 .acceptCharset(StandardCharsets.UTF_8)
                 .bodyValue(request)
                 .retrieve()
-                .bodyToMono(ShinhanTransferResponse.class)
+                .bodyToMono(ShinhanTransferResponse.class);
+    }
+
+    public ShinhanDepositResponse accountDeposit(ShinhanDepositRequest request) {
+        return accountDepositAsync(request)
                 .blockOptional()
                 .orElseThrow();
     }
 
-    public ShinhanDepositResponse accountDeposit(ShinhanDepositRequest request) {
+    public Mono<ShinhanDepositResponse> accountDepositAsync(ShinhanDepositRequest request) {
         return webClient.post()
                 .uri("/edu/demandDeposit/updateDemandDepositAccountDeposit")
                 .accept(MediaType.APPLICATION_JSON)
                 .acceptCharset(StandardCharsets.UTF_8)
                 .bodyValue(request)
                 .retrieve()
-                .bodyToMono(ShinhanDepositResponse.class)
+                .bodyToMono(ShinhanDepositResponse.class);
+    }
+
+    public ShinhanTransactionHistoryResponse getTransactionHistory(ShinhanTransactionHistoryRequest request) {
+        return getTransactionHistoryAsync(request)
                 .blockOptional()
                 .orElseThrow();
     }
 
-    public ShinhanTransactionHistoryResponse getTransactionHistory(ShinhanTransactionHistoryRequest request) {
+    public Mono<ShinhanTransactionHistoryResponse> getTransactionHistoryAsync(ShinhanTransactionHistoryRequest request) {
         return webClient.post()
                 .uri("/edu/demandDeposit/inquireTransactionHistoryList")
                 .accept(MediaType.APPLICATION_JSON)
                 .acceptCharset(StandardCharsets.UTF_8)
                 .bodyValue(request)
                 .retrieve()
-                .bodyToMono(ShinhanTransactionHistoryResponse.class)
-                .blockOptional()
-                .orElseThrow();
+                .bodyToMono(ShinhanTransactionHistoryResponse.class);
     }
 }
@@ -0,0 +1,33 @@
+package com.shinhan.dongibuyeo.domain.account.client;
+
+import com.shinhan.dongibuyeo.domain.account.dto.client.ShinhanTransactionHistoryRequest;
+import com.shinhan.dongibuyeo.domain.account.dto.client.ShinhanTransactionHistoryResponse;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 정산용 거래내역 조회 클라이언트 (호출량 제한 적용)
+ */
+@Component
+public class SettlementHistoryClient {
+    private final WebClient webClient;
+
+    public SettlementHistoryClient(@Qualifier("settlementWebClient") WebClient webClient) {
+        this.webClient = webClient;
+    }
+
+    public Mono<ShinhanTransactionHistoryResponse> getTransactionHistoryAsync(ShinhanTransactionHistoryRequest request) {
+        return webClient.post()
+                .uri("/edu/demandDeposit/inquireTransactionHistoryList")
+                .accept(MediaType.APPLICATION_JSON)
+                .acceptCharset(StandardCharsets.UTF_8)
+                .bodyValue(request)
+                .retrieve()
+                .bodyToMono(ShinhanTransactionHistoryResponse.class);
+    }
+}
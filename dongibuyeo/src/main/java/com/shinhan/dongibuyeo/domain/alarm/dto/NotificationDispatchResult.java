@@ -0,0 +1,12 @@
+package com.shinhan.dongibuyeo.domain.alarm.dto;
+
+import java.util.Set;
+
+/**
+ * 다건 알림 발송 결과
+ *
+ * @param failedTokens  재시도 가능한 실패 토큰
+ * @param invalidTokens 만료/잘못된 토큰 (회원 정보에서 제거됨)
+ */
+public record NotificationDispatchResult(int requested, int succeeded, Set<String> failedTokens, Set<String> invalidTokens) {
+}
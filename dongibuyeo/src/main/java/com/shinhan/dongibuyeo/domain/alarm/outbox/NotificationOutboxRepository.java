@@ -0,0 +1,138 @@
+package com.shinhan.dongibuyeo.domain.alarm.outbox;
+
+import com.github.f4b6a3.ulid.UlidCreator;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static com.shinhan.dongibuyeo.global.util.UuidBytes.toBytes;
+import static com.shinhan.dongibuyeo.global.util.UuidBytes.toUuid;
+
+/**
+ * 알림 아웃박스 JDBC 저장소
+ * - 적재는 호출 측 트랜잭션에 참여해 업무 변경과 함께 커밋
+ * - 발송 대상은 FOR UPDATE SKIP LOCKED로 가져와 여러 워커가 같은 행을 동시에 처리하지 않는다.
+ */
+@Repository
+public class NotificationOutboxRepository {
+
+    private static final String INSERT_SQL = "INSERT INTO notification_outbox " +
+            "(id, member_id, title, content, status, attempts, next_attempt_at, created_at) " +
+            "VALUES (?, ?, ?, ?, 'PENDING', 0, NOW(6), NOW(6))";
+
+    private static final String CLAIM_SQL = "SELECT o.id, m.device_token, o.title, o.content, o.attempts " +
+            "FROM notification_outbox o " +
+            "LEFT JOIN member m ON m.id = o.member_id " +
+            "WHERE o.status = 'PENDING' AND o.next_attempt_at <= NOW(6) " +
+            "ORDER BY o.next_attempt_at " +
+            "LIMIT ? " +
+            "FOR UPDATE OF o SKIP LOCKED";
+
+    private static final String LEASE_SQL = "UPDATE notification_outbox " +
+            "SET attempts = attempts + 1, next_attempt_at = NOW(6) + INTERVAL ? SECOND " +
+            "WHERE id = ?";
+
+    private static final String MARK_SENT_SQL = "UPDATE notification_outbox " +
+            "SET status = 'SENT', sent_at = NOW(6) " +
+            "WHERE id = ?";
+
+    private static final String MARK_FAILED_SQL = "UPDATE notification_outbox " +
+            "SET status = 'FAILED', last_error = ? " +
+            "WHERE id = ?";
+
+    private static final String RESCHEDULE_SQL = "UPDATE notification_outbox " +
+            "SET next_attempt_at = NOW(6) + INTERVAL ? SECOND " +
+            "WHERE id = ?";
+
+    private static final String COUNT_PENDING_SQL = "SELECT COUNT(*) FROM notification_outbox WHERE status = 'PENDING'";
+
+    private static final String DELETE_COMPLETED_SQL = "DELETE FROM notification_outbox " +
+            "WHERE status IN ('SENT', 'FAILED') AND created_at < NOW(6) - INTERVAL ? DAY " +
+            "LIMIT ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public NotificationOutboxRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public void enqueue(List<UUID> memberIds, String title, String content, int batchSize) {
+        if (memberIds.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(INSERT_SQL, memberIds, batchSize, (ps, memberId) -> {
+            ps.setBytes(1, toBytes(UlidCreator.getMonotonicUlid().toUuid()));
+            ps.setBytes(2, toBytes(memberId));
+            ps.setString(3, title);
+            ps.setString(4, content);
+        });
+    }
+
+    /**
+     * 발송 대상 점유 메서드
+     * - 가져온 행은 visibilitySeconds 뒤로 미뤄 두므로, 워커가 처리 중 종료되면 그 이후 다시 발송 대상이 된다.
+     */
+    @Transactional
+    public List<OutboxNotification> claim(int limit, long visibilitySeconds) {
+        List<OutboxNotification> claimed = jdbcTemplate.query(CLAIM_SQL, (rs, rowNum) -> new OutboxNotification(
+                toUuid(rs.getBytes("id")),
+                rs.getString("device_token"),
+                rs.getString("title"),
+                rs.getString("content"),
+                rs.getInt("attempts") + 1
+        ), limit);
+        if (claimed.isEmpty()) {
+            return claimed;
+        }
+
+        jdbcTemplate.batchUpdate(LEASE_SQL, claimed, claimed.size(), (ps, notification) -> {
+            ps.setLong(1, visibilitySeconds);
+            ps.setBytes(2, toBytes(notification.id()));
+        });
+        return claimed;
+    }
+
+    public void markSent(Collection<UUID> ids) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(MARK_SENT_SQL, ids, ids.size(), (ps, id) -> ps.setBytes(1, toBytes(id)));
+    }
+
+    public void markFailed(Collection<UUID> ids, String error) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(MARK_FAILED_SQL, ids, ids.size(), (ps, id) -> {
+            ps.setString(1, error);
+            ps.setBytes(2, toBytes(id));
+        });
+    }
+
+    /**
+     * @param delays 알림 id별 재시도 지연(초)
+     */
+    public void reschedule(Map<UUID, Long> delays) {
+        if (delays.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(RESCHEDULE_SQL, delays.entrySet(), delays.size(), (ps, delay) -> {
+            ps.setLong(1, delay.getValue());
+            ps.setBytes(2, toBytes(delay.getKey()));
+        });
+    }
+
+    public long countPending() {
+        Long count = jdbcTemplate.queryForObject(COUNT_PENDING_SQL, Long.class);
+        return count == null ? 0 : count;
+    }
+
+    public int deleteCompletedBefore(int retentionDays, int limit) {
+        return jdbcTemplate.update(DELETE_COMPLETED_SQL, retentionDays, limit);
+    }
+}
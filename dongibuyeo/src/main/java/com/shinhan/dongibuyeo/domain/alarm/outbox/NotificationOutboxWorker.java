@@ -0,0 +1,201 @@
+package com.shinhan.dongibuyeo.domain.alarm.outbox;
+
+import com.shinhan.dongibuyeo.domain.alarm.dto.NotificationDispatchResult;
+import com.shinhan.dongibuyeo.domain.alarm.service.NotificationDispatcher;
+import com.shinhan.dongibuyeo.global.lock.SchedulerLock;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * 알림 아웃박스 발송 워커
+ * - 워커마다 batch-size 만큼 점유해 같은 제목/내용끼리 multicast로 발송
+ * - 실패 건은 지수 백오프로 재시도하고, max-attempts 초과 또는 토큰이 없거나 만료된 경우 FAILED 처리
+ * - 메트릭: notification.outbox.depth(대기 건수), notification.outbox.drained(result=sent|retried|failed)
+ */
+@Slf4j
+@Component
+public class NotificationOutboxWorker {
+
+    @Value("${shinhan.notification.outbox.workers}")
+    private int workers;
+
+    @Value("${shinhan.notification.outbox.batch-size}")
+    private int batchSize;
+
+    @Value("${shinhan.notification.outbox.poll-interval-ms}")
+    private long pollIntervalMs;
+
+    @Value("${shinhan.notification.outbox.visibility-seconds}")
+    private long visibilitySeconds;
+
+    @Value("${shinhan.notification.outbox.max-attempts}")
+    private int maxAttempts;
+
+    @Value("${shinhan.notification.outbox.backoff-base-seconds}")
+    private long backoffBaseSeconds;
+
+    @Value("${shinhan.notification.outbox.backoff-max-seconds}")
+    private long backoffMaxSeconds;
+
+    @Value("${shinhan.notification.outbox.retention-days}")
+    private int retentionDays;
+
+    private final NotificationOutboxRepository notificationOutboxRepository;
+    private final NotificationDispatcher notificationDispatcher;
+    private final AtomicLong depth;
+    private final Counter sent;
+    private final Counter retried;
+    private final Counter failed;
+
+    private ExecutorService executor;
+    private volatile boolean running;
+
+    public NotificationOutboxWorker(NotificationOutboxRepository notificationOutboxRepository, NotificationDispatcher notificationDispatcher, MeterRegistry meterRegistry) {
+        this.notificationOutboxRepository = notificationOutboxRepository;
+        this.notificationDispatcher = notificationDispatcher;
+        this.depth = meterRegistry.gauge("notification.outbox.depth", new AtomicLong());
+        this.sent = meterRegistry.counter("notification.outbox.drained", "result", "sent");
+        this.retried = meterRegistry.counter("notification.outbox.drained", "result", "retried");
+        this.failed = meterRegistry.counter("notification.outbox.drained", "result", "failed");
+    }
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        executor = Executors.newFixedThreadPool(workers, new ThreadFactory() {
+            private int sequence = 0;
+
+            @Override
+            public synchronized Thread newThread(Runnable runnable) {
+                return new Thread(runnable, "notification-outbox-" + sequence++);
+            }
+        });
+
+        for (int i = 0; i < workers; i++) {
+            executor.submit(this::poll);
+        }
+    }
+
+    private void poll() {
+        while (running) {
+            try {
+                List<OutboxNotification> claimed = notificationOutboxRepository.claim(batchSize, visibilitySeconds);
+                if (claimed.isEmpty()) {
+                    Thread.sleep(pollIntervalMs);
+                    continue;
+                }
+                send(claimed);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                log.error("[NotificationOutbox] worker error", e);
+                sleepQuietly();
+            }
+        }
+    }
+
+    private void send(List<OutboxNotification> claimed) {
+        List<UUID> sentIds = new ArrayList<>();
+        List<UUID> failedIds = new ArrayList<>();
+        Map<UUID, Long> retries = new HashMap<>();
+
+        Map<List<String>, List<OutboxNotification>> messages = claimed.stream()
+                .collect(Collectors.groupingBy(notification -> List.of(notification.title(), notification.content())));
+
+        messages.forEach((message, notifications) -> {
+            List<OutboxNotification> deliverable = new ArrayList<>();
+            for (OutboxNotification notification : notifications) {
+                if (notification.deviceToken() == null || notification.deviceToken().isBlank()) {
+                    failedIds.add(notification.id());
+                } else {
+                    deliverable.add(notification);
+                }
+            }
+            if (deliverable.isEmpty()) {
+                return;
+            }
+
+            Set<String> tokens = deliverable.stream().map(OutboxNotification::deviceToken).collect(Collectors.toSet());
+            NotificationDispatchResult result = notificationDispatcher.dispatch(tokens, message.get(0), message.get(1)).join();
+
+            for (OutboxNotification notification : deliverable) {
+                if (result.invalidTokens().contains(notification.deviceToken())) {
+                    failedIds.add(notification.id());
+                } else if (!result.failedTokens().contains(notification.deviceToken())) {
+                    sentIds.add(notification.id());
+                } else if (notification.attempt() >= maxAttempts) {
+                    failedIds.add(notification.id());
+                } else {
+                    retries.put(notification.id(), backoffSeconds(notification.attempt()));
+                }
+            }
+        });
+
+        notificationOutboxRepository.markSent(sentIds);
+        notificationOutboxRepository.markFailed(failedIds, "undeliverable");
+        notificationOutboxRepository.reschedule(retries);
+
+        sent.increment(sentIds.size());
+        failed.increment(failedIds.size());
+        retried.increment(retries.size());
+    }
+
+    /**
+     * 지수 백오프: base * 2^(attempt - 1), 최대 backoff-max-seconds
+     */
+    private long backoffSeconds(int attempt) {
+        long delay = backoffBaseSeconds << Math.min(attempt - 1, 30);
+        return Math.min(delay, backoffMaxSeconds);
+    }
+
+    @Scheduled(fixedDelayString = "${shinhan.notification.outbox.depth-refresh-ms}")
+    public void refreshDepth() {
+        try {
+            depth.set(notificationOutboxRepository.countPending());
+        } catch (Exception e) {
+            log.error("[NotificationOutbox] failed to refresh depth", e);
+        }
+    }
+
+    /**
+     * 발송 완료/실패 건 정리 (매일 새벽 3시 30분)
+     */
+    @Scheduled(cron = "0 30 3 * * ?")
+    @SchedulerLock(name = "notification.outbox-purge")
+    public void purge() {
+        int deleted;
+        do {
+            deleted = notificationOutboxRepository.deleteCompletedBefore(retentionDays, batchSize * 10);
+        } while (deleted > 0);
+    }
+
+    private void sleepQuietly() {
+        try {
+            Thread.sleep(pollIntervalMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        executor.shutdownNow();
+        executor.awaitTermination(10, TimeUnit.SECONDS);
+    }
+}
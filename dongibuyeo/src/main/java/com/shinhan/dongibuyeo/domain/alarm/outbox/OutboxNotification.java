@@ -0,0 +1,12 @@
+package com.shinhan.dongibuyeo.domain.alarm.outbox;
+
+import java.util.UUID;
+
+/**
+ * 발송을 위해 가져온 아웃박스 알림 1건
+ *
+ * @param deviceToken 발송 시점의 회원 토큰 (없으면 null)
+ * @param attempt     이번 발송 시도 회차 (1부터)
+ */
+public record OutboxNotification(UUID id, String deviceToken, String title, String content, int attempt) {
+}
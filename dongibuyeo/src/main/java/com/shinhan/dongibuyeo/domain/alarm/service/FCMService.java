@@ -1,22 +1,45 @@
 package com.shinhan.dongibuyeo.domain.alarm.service;
 
+import com.google.api.core.ApiFuture;
+import com.google.firebase.messaging.BatchResponse;
 import com.google.firebase.messaging.FirebaseMessaging;
 import com.google.firebase.messaging.Message;
+import com.google.firebase.messaging.MulticastMessage;
 import com.google.firebase.messaging.WebpushConfig;
 import com.google.firebase.messaging.WebpushNotification;
 import com.shinhan.dongibuyeo.domain.alarm.dto.NotificationRequest;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
+
 @Service
 public class FCMService {
 
     public void send(final NotificationRequest request) {
         Message message = Message.builder()
                 .setToken(request.getToken())
-                .setWebpushConfig(WebpushConfig.builder().putHeader("ttl","300")
-                        .setNotification(new WebpushNotification(request.getTitle(), request.getContent()))
-                        .build()).build();
+                .setWebpushConfig(webpushConfig(request.getTitle(), request.getContent()))
+                .build();
 
         FirebaseMessaging.getInstance().sendAsync(message);
     }
+
+    /**
+     * 동일 알림 다건 발송 (토큰 최대 500개)
+     * - 응답 순서는 tokens 순서와 동일
+     */
+    public ApiFuture<BatchResponse> sendMulticast(List<String> tokens, String title, String content) {
+        MulticastMessage message = MulticastMessage.builder()
+                .addAllTokens(tokens)
+                .setWebpushConfig(webpushConfig(title, content))
+                .build();
+
+        return FirebaseMessaging.getInstance().sendMulticastAsync(message);
+    }
+
+    private WebpushConfig webpushConfig(String title, String content) {
+        return WebpushConfig.builder().putHeader("ttl", "300")
+                .setNotification(new WebpushNotification(title, content))
+                .build();
+    }
 }
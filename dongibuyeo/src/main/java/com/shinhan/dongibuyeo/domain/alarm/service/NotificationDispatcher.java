@@ -0,0 +1,134 @@
+package com.shinhan.dongibuyeo.domain.alarm.service;
+
+import com.google.api.core.ApiFutureCallback;
+import com.google.api.core.ApiFutures;
+import com.google.common.util.concurrent.MoreExecutors;
+import com.google.firebase.messaging.BatchResponse;
+import com.google.firebase.messaging.FirebaseMessagingException;
+import com.google.firebase.messaging.SendResponse;
+import com.shinhan.dongibuyeo.domain.alarm.dto.NotificationDispatchResult;
+import com.shinhan.dongibuyeo.domain.member.repository.MemberRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 다건 알림 발송기
+ * - 토큰을 multicast-size(최대 500) 단위로 묶어 발송하고, 동시에 진행 중인 요청은 max-in-flight 개로 제한
+ * - 만료된 토큰은 발송 완료 후 회원 정보에서 제거
+ */
+@Slf4j
+@Component
+public class NotificationDispatcher {
+
+    private static final String UNREGISTERED = "registration-token-not-registered";
+    private static final String INVALID_ARGUMENT = "invalid-argument";
+
+    @Value("${shinhan.notification.multicast-size}")
+    private int multicastSize;
+
+    @Value("${shinhan.notification.max-in-flight}")
+    private int maxInFlight;
+
+    private final FCMService fcmService;
+    private final MemberRepository memberRepository;
+
+    public NotificationDispatcher(FCMService fcmService, MemberRepository memberRepository) {
+        this.fcmService = fcmService;
+        this.memberRepository = memberRepository;
+    }
+
+    /**
+     * 다건 알림 발송 메서드
+     * - 호출 스레드는 in-flight 한도 안에서 배치를 모두 제출하면 반환, 결과 집계와 토큰 정리는 비동기로 처리
+     *
+     * @param deviceTokens 발송 대상 토큰 (중복/빈 값 제외)
+     */
+    public CompletableFuture<NotificationDispatchResult> dispatch(Collection<String> deviceTokens, String title, String content) {
+        List<String> tokens = deviceTokens.stream()
+                .filter(token -> token != null && !token.isBlank())
+                .distinct()
+                .toList();
+        if (tokens.isEmpty()) {
+            return CompletableFuture.completedFuture(new NotificationDispatchResult(0, 0, Set.of(), Set.of()));
+        }
+
+        Semaphore inFlight = new Semaphore(maxInFlight);
+        AtomicInteger succeeded = new AtomicInteger();
+        Set<String> failedTokens = ConcurrentHashMap.newKeySet();
+        Set<String> invalidTokens = ConcurrentHashMap.newKeySet();
+        List<CompletableFuture<Void>> batches = new ArrayList<>();
+
+        for (int from = 0; from < tokens.size(); from += multicastSize) {
+            List<String> batch = tokens.subList(from, Math.min(from + multicastSize, tokens.size()));
+            inFlight.acquireUninterruptibly();
+
+            CompletableFuture<Void> completion = new CompletableFuture<>();
+            ApiFutures.addCallback(fcmService.sendMulticast(batch, title, content), new ApiFutureCallback<>() {
+                @Override
+                public void onSuccess(BatchResponse response) {
+                    succeeded.addAndGet(response.getSuccessCount());
+                    collectFailedTokens(batch, response, failedTokens, invalidTokens);
+                    inFlight.release();
+                    completion.complete(null);
+                }
+
+                @Override
+                public void onFailure(Throwable t) {
+                    log.error("[NotificationDispatcher] multicast failed, tokens: {}", batch.size(), t);
+                    failedTokens.addAll(batch);
+                    inFlight.release();
+                    completion.complete(null);
+                }
+            }, MoreExecutors.directExecutor());
+            batches.add(completion);
+        }
+
+        return CompletableFuture.allOf(batches.toArray(CompletableFuture[]::new))
+                .thenApply(ignored -> {
+                    prune(invalidTokens);
+                    log.info("[NotificationDispatcher] requested: {}, succeeded: {}, failed: {}, pruned: {}",
+                            tokens.size(), succeeded.get(), failedTokens.size(), invalidTokens.size());
+                    return new NotificationDispatchResult(tokens.size(), succeeded.get(), Set.copyOf(failedTokens), Set.copyOf(invalidTokens));
+                });
+    }
+
+    /**
+     * 실패 토큰 분류
+     * - 재발송해도 성공할 수 없는 토큰은 invalidTokens, 나머지는 failedTokens
+     * - invalid-argument는 같은 배치에 성공 건이 있을 때만(메시지 자체 오류가 아닐 때) 토큰 오류로 판단
+     */
+    private void collectFailedTokens(List<String> batch, BatchResponse response, Set<String> failedTokens, Set<String> invalidTokens) {
+        List<SendResponse> responses = response.getResponses();
+        for (int i = 0; i < responses.size(); i++) {
+            FirebaseMessagingException exception = responses.get(i).getException();
+            if (exception == null) {
+                continue;
+            }
+
+            String errorCode = exception.getErrorCode();
+            if (UNREGISTERED.equals(errorCode) || (INVALID_ARGUMENT.equals(errorCode) && response.getSuccessCount() > 0)) {
+                invalidTokens.add(batch.get(i));
+            } else {
+                failedTokens.add(batch.get(i));
+            }
+        }
+    }
+
+    private void prune(Set<String> invalidTokens) {
+        if (invalidTokens.isEmpty()) {
+            return;
+        }
+        try {
+            memberRepository.clearDeviceTokens(invalidTokens);
+        } catch (Exception e) {
+            log.error("[NotificationDispatcher] failed to prune device tokens: {}", invalidTokens.size(), e);
+        }
+    }
+}
@@ -1,45 +1,52 @@
 package com.shinhan.dongibuyeo.domain.alarm.service;
 
-import com.shinhan.dongibuyeo.domain.alarm.dto.NotificationRequest;
-import com.shinhan.dongibuyeo.domain.challenge.entity.ChallengeType;
+import com.shinhan.dongibuyeo.domain.alarm.outbox.NotificationOutboxRepository;
 import com.shinhan.dongibuyeo.domain.challenge.entity.MemberChallenge;
 import com.shinhan.dongibuyeo.domain.member.entity.Member;
-import com.shinhan.dongibuyeo.domain.member.service.MemberService;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
+import java.util.UUID;
 
+/**
+ * 알림 발송 요청 서비스
+ * - 알림은 아웃박스에 적재만 하고(호출 측 트랜잭션과 함께 커밋), 실제 발송은 NotificationOutboxWorker가 처리
+ */
 @Service
 public class NotificationService {
-    private final FCMService fcmService;
 
-    public NotificationService(FCMService fcmService) {
-        this.fcmService = fcmService;
-    }
+    @Value("${shinhan.notification.outbox.insert-batch-size}")
+    private int insertBatchSize;
 
-    public void sendNotification(Member member,String title,String content) {
+    private final NotificationOutboxRepository notificationOutboxRepository;
 
-        if(member.getDeviceToken() == null || member.getDeviceToken().isEmpty()) {
-            return;
-        }
+    public NotificationService(NotificationOutboxRepository notificationOutboxRepository) {
+        this.notificationOutboxRepository = notificationOutboxRepository;
+    }
 
-        NotificationRequest request = makeNotificationRequest(member, title, content);
-        fcmService.send(request);
+    public void sendNotification(Member member, String title, String content) {
+        sendNotificationGroup(List.of(member), title, content);
     }
 
     public void sendNotificationGroup(List<Member> members, String title, String content) {
-        members.stream().forEach(member -> sendNotification(member, title, content));
+        List<UUID> memberIds = members.stream()
+                .filter(member -> member.getDeviceToken() != null && !member.getDeviceToken().isBlank())
+                .map(Member::getId)
+                .distinct()
+                .toList();
+
+        sendNotificationToMembers(memberIds, title, content);
     }
 
-    public void sendNotificationMemberChallenges(List<MemberChallenge> memberChallenges, String title, String content) {
-        memberChallenges.stream().map(x -> x.getMember()).forEach(member -> sendNotification(member, title, content));
+    /**
+     * 회원 ID 목록으로 알림 적재 (토큰 보유 여부는 호출 측에서 확인)
+     */
+    public void sendNotificationToMembers(List<UUID> memberIds, String title, String content) {
+        notificationOutboxRepository.enqueue(memberIds, title, content, insertBatchSize);
     }
 
-    private NotificationRequest makeNotificationRequest(Member member, String title, String body) {
-        return new NotificationRequest(
-                member.getDeviceToken(),
-                title,
-                body
-        );
+    public void sendNotificationMemberChallenges(List<MemberChallenge> memberChallenges, String title, String content) {
+        sendNotificationGroup(memberChallenges.stream().map(MemberChallenge::getMember).toList(), title, content);
     }
 }
@@ -0,0 +1,48 @@
+package com.shinhan.dongibuyeo.domain.challenge.batch;
+
+import com.shinhan.dongibuyeo.domain.challenge.entity.Challenge;
+import com.shinhan.dongibuyeo.domain.challenge.entity.ChallengeStatus;
+import com.shinhan.dongibuyeo.domain.challenge.repository.ChallengeRepository;
+import org.springframework.batch.core.partition.support.Partitioner;
+import org.springframework.batch.item.ExecutionContext;
+
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Predicate;
+
+/**
+ * 정산 대상일에 종료된 챌린지 1개당 파티션 1개 생성
+ * - 이미 COMPLETED 처리된 챌린지는 제외 (재실행 시 중복 정산 방지)
+ */
+public class ChallengePartitioner implements Partitioner {
+
+    public static final String CHALLENGE_ID = "challengeId";
+
+    private final ChallengeRepository challengeRepository;
+    private final LocalDate endDate;
+    private final Predicate<Challenge> filter;
+
+    public ChallengePartitioner(ChallengeRepository challengeRepository, LocalDate endDate, Predicate<Challenge> filter) {
+        this.challengeRepository = challengeRepository;
+        this.endDate = endDate;
+        this.filter = filter;
+    }
+
+    @Override
+    public Map<String, ExecutionContext> partition(int gridSize) {
+        Map<String, ExecutionContext> partitions = new LinkedHashMap<>();
+
+        challengeRepository.findChallengesByEndDate(endDate)
+                .stream()
+                .filter(challenge -> challenge.getStatus() != ChallengeStatus.COMPLETED)
+                .filter(filter)
+                .forEach(challenge -> {
+                    ExecutionContext context = new ExecutionContext();
+                    context.putString(CHALLENGE_ID, challenge.getId().toString());
+                    partitions.put("challenge:" + challenge.getId(), context);
+                });
+
+        return partitions;
+    }
+}
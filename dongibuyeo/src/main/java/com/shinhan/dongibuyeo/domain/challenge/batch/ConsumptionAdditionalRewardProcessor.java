@@ -0,0 +1,57 @@
+package com.shinhan.dongibuyeo.domain.challenge.batch;
+
+import com.shinhan.dongibuyeo.domain.challenge.dto.MemberChallengeSettlement;
+import com.shinhan.dongibuyeo.domain.challenge.dto.response.AdditionalRewardResponse;
+import com.shinhan.dongibuyeo.domain.challenge.entity.Challenge;
+import com.shinhan.dongibuyeo.domain.challenge.entity.MemberChallenge;
+import com.shinhan.dongibuyeo.domain.challenge.entity.MemberChallengeStatus;
+import com.shinhan.dongibuyeo.domain.challenge.exception.ChallengeNotFoundException;
+import com.shinhan.dongibuyeo.domain.challenge.repository.ChallengeRepository;
+import com.shinhan.dongibuyeo.domain.challenge.service.ChallengeRewardService;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.StepExecutionListener;
+import org.springframework.batch.item.ItemProcessor;
+
+import java.util.UUID;
+
+/**
+ * 소비 챌린지 추가 환급금 계산
+ * - 단위 금액과 상위 10% 인원은 기본 환급액이 모두 반영된 뒤 스텝 시작 시 1회 계산
+ */
+public class ConsumptionAdditionalRewardProcessor implements ItemProcessor<RankedMemberChallenge, MemberChallengeSettlement>, StepExecutionListener {
+
+    private final ChallengeRepository challengeRepository;
+    private final ChallengeRewardService challengeRewardService;
+    private final UUID challengeId;
+
+    private AdditionalRewardResponse rewardPerUnit;
+
+    public ConsumptionAdditionalRewardProcessor(ChallengeRepository challengeRepository, ChallengeRewardService challengeRewardService, UUID challengeId) {
+        this.challengeRepository = challengeRepository;
+        this.challengeRewardService = challengeRewardService;
+        this.challengeId = challengeId;
+    }
+
+    @Override
+    public void beforeStep(StepExecution stepExecution) {
+        Challenge challenge = challengeRepository.findById(challengeId)
+                .orElseThrow(() -> new ChallengeNotFoundException(challengeId));
+        rewardPerUnit = challengeRewardService.calculateConsumptionAdditionalRewardPerUnit(challenge);
+    }
+
+    @Override
+    public MemberChallengeSettlement process(RankedMemberChallenge ranked) {
+        MemberChallenge memberChallenge = ranked.memberChallenge();
+        long unit = ranked.rank() <= rewardPerUnit.getTop10PercentMemberNum()
+                ? rewardPerUnit.getTop10PercentRewardPerUnit()
+                : rewardPerUnit.getLower90PercentRewardPerUnit();
+
+        return new MemberChallengeSettlement(
+                memberChallenge.getId(),
+                true,
+                memberChallenge.getBaseReward(),
+                challengeRewardService.calculateAdditionalReward(unit, memberChallenge.getDeposit()),
+                MemberChallengeStatus.CALCULATED
+        );
+    }
+}
@@ -0,0 +1,40 @@
+package com.shinhan.dongibuyeo.domain.challenge.batch;
+
+import com.shinhan.dongibuyeo.domain.challenge.dto.MemberChallengeSettlement;
+import com.shinhan.dongibuyeo.domain.challenge.entity.Challenge;
+import com.shinhan.dongibuyeo.domain.challenge.entity.MemberChallenge;
+import com.shinhan.dongibuyeo.domain.challenge.service.ChallengeRewardService;
+import com.shinhan.dongibuyeo.domain.challenge.service.SettlementEvaluator;
+import org.springframework.batch.item.Chunk;
+import org.springframework.batch.item.ItemWriter;
+
+import java.util.List;
+
+/**
+ * 소비 챌린지 기본 환급액 청크 단위 평가 후 반영
+ * - 청크 내 회원들의 거래내역 조회를 SettlementEvaluator 스레드 풀에서 동시에 수행
+ * - 평가 실패 시 예외를 그대로 전파해 스텝의 재시도/건너뛰기(회원 단위 재처리)에 맡긴다
+ */
+public class ConsumptionBaseRewardWriter implements ItemWriter<MemberChallenge> {
+
+    private final SettlementEvaluator settlementEvaluator;
+    private final ChallengeRewardService challengeRewardService;
+    private final MemberChallengeSettlementWriter delegate;
+    private final Challenge challenge;
+
+    public ConsumptionBaseRewardWriter(SettlementEvaluator settlementEvaluator, ChallengeRewardService challengeRewardService, MemberChallengeSettlementWriter delegate, Challenge challenge) {
+        this.settlementEvaluator = settlementEvaluator;
+        this.challengeRewardService = challengeRewardService;
+        this.delegate = delegate;
+        this.challenge = challenge;
+    }
+
+    @Override
+    public void write(Chunk<? extends MemberChallenge> chunk) throws Exception {
+        List<MemberChallengeSettlement> settlements = settlementEvaluator.evaluateAll(
+                List.copyOf(chunk.getItems()),
+                memberChallenge -> challengeRewardService.evaluateConsumptionBaseReward(memberChallenge, challenge)
+        );
+        delegate.write(new Chunk<>(settlements));
+    }
+}
@@ -0,0 +1,31 @@
+package com.shinhan.dongibuyeo.domain.challenge.batch;
+
+import com.shinhan.dongibuyeo.domain.challenge.dto.MemberChallengeSettlement;
+import com.shinhan.dongibuyeo.domain.challenge.repository.MemberChallengeRepository;
+import org.springframework.batch.item.Chunk;
+import org.springframework.batch.item.ItemWriter;
+
+/**
+ * 정산 컬럼만 UPDATE (점수 등 다른 컬럼은 덮어쓰지 않는다)
+ */
+public class MemberChallengeSettlementWriter implements ItemWriter<MemberChallengeSettlement> {
+
+    private final MemberChallengeRepository memberChallengeRepository;
+
+    public MemberChallengeSettlementWriter(MemberChallengeRepository memberChallengeRepository) {
+        this.memberChallengeRepository = memberChallengeRepository;
+    }
+
+    @Override
+    public void write(Chunk<? extends MemberChallengeSettlement> chunk) {
+        for (MemberChallengeSettlement settlement : chunk) {
+            memberChallengeRepository.updateSettlement(
+                    settlement.memberChallengeId(),
+                    settlement.isSuccess(),
+                    settlement.baseReward(),
+                    settlement.additionalReward(),
+                    settlement.status()
+            );
+        }
+    }
+}
@@ -0,0 +1,9 @@
+package com.shinhan.dongibuyeo.domain.challenge.batch;
+
+import com.shinhan.dongibuyeo.domain.challenge.entity.MemberChallenge;
+
+/**
+ * 점수 내림차순 순위(1부터)가 부여된 회원 챌린지
+ */
+public record RankedMemberChallenge(int rank, MemberChallenge memberChallenge) {
+}
@@ -0,0 +1,44 @@
+package com.shinhan.dongibuyeo.domain.challenge.batch;
+
+import com.shinhan.dongibuyeo.domain.challenge.entity.MemberChallenge;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.ItemStreamException;
+import org.springframework.batch.item.ItemStreamReader;
+import org.springframework.batch.item.database.AbstractPagingItemReader;
+
+/**
+ * 점수순으로 정렬된 reader를 감싸 읽은 순서를 순위로 부여
+ * - 순위는 delegate의 읽은 건수이므로 재시작 시에도 이어서 계산된다.
+ */
+public class RankedMemberChallengeReader implements ItemStreamReader<RankedMemberChallenge> {
+
+    private final AbstractPagingItemReader<MemberChallenge> delegate;
+
+    public RankedMemberChallengeReader(AbstractPagingItemReader<MemberChallenge> delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public RankedMemberChallenge read() throws Exception {
+        MemberChallenge memberChallenge = delegate.read();
+        if (memberChallenge == null) {
+            return null;
+        }
+        return new RankedMemberChallenge(delegate.getCurrentItemCount(), memberChallenge);
+    }
+
+    @Override
+    public void open(ExecutionContext executionContext) throws ItemStreamException {
+        delegate.open(executionContext);
+    }
+
+    @Override
+    public void update(ExecutionContext executionContext) throws ItemStreamException {
+        delegate.update(executionContext);
+    }
+
+    @Override
+    public void close() throws ItemStreamException {
+        delegate.close();
+    }
+}
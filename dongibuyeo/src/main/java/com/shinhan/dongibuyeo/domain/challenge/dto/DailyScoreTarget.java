@@ -0,0 +1,9 @@
+package com.shinhan.dongibuyeo.domain.challenge.dto;
+
+import java.util.UUID;
+
+/**
+ * 일일 점수 생성 대상 회원 챌린지
+ */
+public record DailyScoreTarget(UUID memberChallengeId, UUID challengeId) {
+}
@@ -0,0 +1,11 @@
+package com.shinhan.dongibuyeo.domain.challenge.dto;
+
+import com.shinhan.dongibuyeo.domain.challenge.entity.MemberChallengeStatus;
+
+import java.util.UUID;
+
+/**
+ * 회원 챌린지 정산 결과 (정산 컬럼만 반영)
+ */
+public record MemberChallengeSettlement(UUID memberChallengeId, boolean isSuccess, long baseReward, long additionalReward, MemberChallengeStatus status) {
+}
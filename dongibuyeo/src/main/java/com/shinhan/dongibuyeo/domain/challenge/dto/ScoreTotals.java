@@ -0,0 +1,9 @@
+package com.shinhan.dongibuyeo.domain.challenge.dto;
+
+import java.util.UUID;
+
+/**
+ * 점수 반영 직후의 누적 점수 (일일 점수, 회원 챌린지 누적 점수와 버전)
+ */
+public record ScoreTotals(UUID challengeId, int dailyTotalScore, int memberChallengeTotalScore, long scoreVersion) {
+}
@@ -6,13 +6,17 @@ import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.DynamicUpdate;
 
 import java.time.LocalDate;
-import java.util.*;
+import java.util.Objects;
+import java.util.UUID;
 
 @Entity
 @Getter
+@DynamicUpdate
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_daily_score_member_challenge_date", columnNames = {"member_challenge_id", "date"}))
 public class DailyScore {
 
     @Id
@@ -24,33 +28,36 @@ public class DailyScore {
     private MemberChallenge memberChallenge;
 
     private LocalDate date;
-    private int totalScore;
 
-    @ElementCollection(fetch = FetchType.LAZY)
-    @CollectionTable(name = "score_entries", joinColumns = @JoinColumn(name = "daily_score_id"))
-    private List<ScoreDetail> scoreDetails = new ArrayList<>();
+    // 누적 점수는 SQL 증가 연산으로만 변경 (엔티티 flush로 덮어쓰지 않음)
+    @Column(updatable = false)
+    private int totalScore;
 
     @Builder
     public DailyScore(LocalDate date) {
         this.date = date;
     }
 
-    public void updateMemberChallenge(MemberChallenge memberChallenge) {
+    /**
+     * 회원 챌린지의 일일 점수 목록(지연 로딩 컬렉션)은 건드리지 않고 연관관계만 지정
+     */
+    public DailyScore(MemberChallenge memberChallenge, LocalDate date) {
         this.memberChallenge = memberChallenge;
-        if (memberChallenge != null && !memberChallenge.getDailyScores().contains(this)) {
-            memberChallenge.getDailyScores().add(this);
-        }
+        this.date = date;
     }
 
-    public void addScoreDetail(ScoreDetail scoreDetail) {
-        this.scoreDetails.add(scoreDetail);
-        int scoreDifference = scoreDetail.getScore();
-        this.totalScore += scoreDifference;
-        this.memberChallenge.addTotalScore(scoreDifference);
+    /**
+     * SQL로 반영된 누적 점수를 영속 상태의 엔티티에 맞춤 (DB에는 쓰지 않음)
+     */
+    public void syncTotalScore(int totalScore) {
+        this.totalScore = totalScore;
     }
 
-    public List<ScoreDetail> getScoreDetails() {
-        return Collections.unmodifiableList(scoreDetails);
+    public void updateMemberChallenge(MemberChallenge memberChallenge) {
+        this.memberChallenge = memberChallenge;
+        if (memberChallenge != null && !memberChallenge.getDailyScores().contains(this)) {
+            memberChallenge.getDailyScores().add(this);
+        }
     }
 
     @Override
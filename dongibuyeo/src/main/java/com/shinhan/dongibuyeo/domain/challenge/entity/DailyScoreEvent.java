@@ -0,0 +1,57 @@
+package com.shinhan.dongibuyeo.domain.challenge.entity;
+
+import com.github.f4b6a3.ulid.UlidCreator;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 점수 변경 이력 (append-only)
+ * - ULID id 순서가 곧 반영 순서
+ * - DailyScore.totalScore, MemberChallenge.totalScore는 이 이력의 누적 스냅샷
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(
+        name = "score_event",
+        indexes = {
+                @Index(name = "idx_score_event_daily_score", columnList = "daily_score_id, id"),
+                @Index(name = "idx_score_event_member_challenge", columnList = "member_challenge_id, id")
+        }
+)
+public class DailyScoreEvent {
+
+    @Id
+    @Column(columnDefinition = "BINARY(16)")
+    private UUID id = UlidCreator.getMonotonicUlid().toUuid();
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "daily_score_id")
+    private DailyScore dailyScore;
+
+    @Column(columnDefinition = "BINARY(16)")
+    private UUID memberChallengeId;
+
+    private String description;
+    private int score;
+    private int currentTotalScore;
+    private LocalDateTime createdAt;
+
+    public DailyScoreEvent(DailyScore dailyScore, UUID memberChallengeId, String description, int score, int currentTotalScore) {
+        this.dailyScore = dailyScore;
+        this.memberChallengeId = memberChallengeId;
+        this.description = description;
+        this.score = score;
+        this.currentTotalScore = currentTotalScore;
+        this.createdAt = LocalDateTime.now();
+    }
+
+    public ScoreDetail toScoreDetail() {
+        return new ScoreDetail(description, score, currentTotalScore);
+    }
+}
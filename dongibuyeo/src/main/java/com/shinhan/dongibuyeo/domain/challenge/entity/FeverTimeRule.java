@@ -0,0 +1,50 @@
+package com.shinhan.dongibuyeo.domain.challenge.entity;
+
+import com.github.f4b6a3.ulid.UlidCreator;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.util.UUID;
+
+/**
+ * 피버타임 규칙
+ * - dayOfWeek가 없으면 매일 적용
+ * - endTime이 startTime 이전(또는 같음)이면 다음날 endTime에 종료 (자정 넘김)
+ * - score가 0이면 점수 없이 알림만 발송
+ * - notifyTime이 없으면 시작 시각에 알림 발송, notificationTitle이 없으면 알림 없음
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "fever_time_rule")
+public class FeverTimeRule {
+
+    @Id
+    @Column(columnDefinition = "BINARY(16)")
+    private UUID id = UlidCreator.getMonotonicUlid().toUuid();
+
+    @Enumerated(EnumType.STRING)
+    private ChallengeType challengeType;
+
+    @Enumerated(EnumType.STRING)
+    private DayOfWeek dayOfWeek;
+
+    private LocalTime startTime;
+    private LocalTime endTime;
+    private int score;
+    private String label;
+
+    private LocalTime notifyTime;
+    private String notificationTitle;
+    private String notificationContent;
+
+    private boolean enabled;
+
+    public boolean crossesMidnight() {
+        return !endTime.isAfter(startTime);
+    }
+}
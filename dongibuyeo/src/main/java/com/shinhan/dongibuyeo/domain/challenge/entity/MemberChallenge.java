@@ -8,6 +8,7 @@ import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.DynamicUpdate;
 import org.hibernate.annotations.SQLRestriction;
 
 import java.util.ArrayList;
@@ -16,6 +17,7 @@ import java.util.UUID;
 
 @Entity
 @Getter
+@DynamicUpdate
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @SQLRestriction("deleted_at is null")
 public class MemberChallenge extends BaseEntity {
@@ -43,8 +45,13 @@ public class MemberChallenge extends BaseEntity {
 
     private Long additionalReward = 0L;
 
+    // 누적 점수와 버전은 SQL 증가 연산으로만 변경 (엔티티 flush로 덮어쓰지 않음)
+    @Column(updatable = false)
     private Integer totalScore;
 
+    @Column(updatable = false)
+    private Long scoreVersion = 0L;
+
     @Enumerated(EnumType.STRING)
     private MemberChallengeStatus status;
 
@@ -57,19 +64,24 @@ public class MemberChallenge extends BaseEntity {
         this.baseReward = 0L;
         this.additionalReward = 0L;
         this.totalScore = 0;
+        this.scoreVersion = 0L;
         this.status = MemberChallengeStatus.BEFORE_CALCULATION;
     }
 
+    /**
+     * SQL로 반영된 누적 점수를 영속 상태의 엔티티에 맞춤 (DB에는 쓰지 않음)
+     */
+    public void syncTotalScore(int totalScore, long scoreVersion) {
+        this.totalScore = totalScore;
+        this.scoreVersion = scoreVersion;
+    }
+
     public void addDailyScore(DailyScore dailyScore) {
         if (!this.dailyScores.contains(dailyScore)) {
             this.dailyScores.add(dailyScore);
         }
     }
 
-    public void addTotalScore(int scoreDifference) {
-        this.totalScore += scoreDifference;
-    }
-
     public void updateSuccessStatus(boolean isSuccess) {
         this.isSuccess = isSuccess;
     }
@@ -1,11 +1,9 @@
 package com.shinhan.dongibuyeo.domain.challenge.entity;
 
-import jakarta.persistence.Embeddable;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
-@Embeddable
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
@@ -5,9 +5,12 @@ import com.shinhan.dongibuyeo.domain.challenge.entity.Challenge;
 import com.shinhan.dongibuyeo.domain.challenge.entity.ChallengeStatus;
 import com.shinhan.dongibuyeo.domain.challenge.entity.ChallengeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -25,4 +28,22 @@ public interface ChallengeRepository extends JpaRepository<Challenge, UUID> {
 
     @Query("SELECT c FROM Challenge c JOIN FETCH c.challengeMembers WHERE c.type = :type AND :curDay BETWEEN c.startDate AND c.endDate")
     List<Challenge> findAllChallengesByStatusAndDate(ChallengeType type, LocalDate curDay);
+
+    @Query("SELECT c.id " +
+            "FROM Challenge c " +
+            "WHERE c.status = :status AND c.startDate <= :date")
+    List<UUID> findIdsByStatusAndStartDateLessThanEqual(@Param("status") ChallengeStatus status, @Param("date") LocalDate date);
+
+    @Modifying
+    @Query("UPDATE Challenge c " +
+            "SET c.status = :status " +
+            "WHERE c.id IN :challengeIds")
+    int updateStatusByIds(@Param("challengeIds") Collection<UUID> challengeIds, @Param("status") ChallengeStatus status);
+
+    @Query("SELECT DISTINCT c " +
+            "FROM Challenge c " +
+            "LEFT JOIN FETCH c.challengeMembers mc " +
+            "LEFT JOIN FETCH mc.member " +
+            "WHERE c.id IN :challengeIds")
+    List<Challenge> findAllWithMembersByIdIn(@Param("challengeIds") Collection<UUID> challengeIds);
 }
@@ -0,0 +1,23 @@
+package com.shinhan.dongibuyeo.domain.challenge.repository;
+
+import com.shinhan.dongibuyeo.domain.challenge.entity.DailyScoreEvent;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.List;
+import java.util.UUID;
+
+public interface DailyScoreEventRepository extends JpaRepository<DailyScoreEvent, UUID> {
+
+    @Query("SELECT COUNT(e) > 0 " +
+            "FROM DailyScoreEvent e " +
+            "WHERE e.dailyScore.id = :dailyScoreId " +
+            "AND e.description = :description ")
+    boolean existsByDailyScoreIdAndDescription(UUID dailyScoreId, String description);
+
+    @Query("SELECT e " +
+            "FROM DailyScoreEvent e " +
+            "WHERE e.memberChallengeId = :memberChallengeId " +
+            "ORDER BY e.id ")
+    List<DailyScoreEvent> findAllByMemberChallengeId(UUID memberChallengeId);
+}
@@ -0,0 +1,92 @@
+package com.shinhan.dongibuyeo.domain.challenge.repository;
+
+import com.github.f4b6a3.ulid.UlidCreator;
+import com.shinhan.dongibuyeo.domain.challenge.dto.DailyScoreTarget;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static com.shinhan.dongibuyeo.global.util.UuidBytes.toBytes;
+import static com.shinhan.dongibuyeo.global.util.UuidBytes.toUuid;
+
+/**
+ * 일일 점수 대량 생성용 JDBC 저장소
+ * - daily_score / score_event INSERT와 누적 점수 UPDATE를 batch로 처리
+ * - (member_challenge_id, date) 유니크 키로 같은 날 점수가 이미 생성된 경우 INSERT를 무시하고,
+ *   이벤트와 누적 점수는 이번에 생성된 daily_score 행이 있을 때만 반영 (batch 건수는 rewriteBatchedStatements로 신뢰할 수 없음)
+ */
+@Repository
+public class DailyScoreJdbcRepository {
+
+    private static final String INSERT_DAILY_SCORE_SQL = "INSERT INTO daily_score (id, member_challenge_id, date, total_score) " +
+            "VALUES (?, ?, ?, ?)";
+
+    private static final String INSERT_IGNORE_DAILY_SCORE_SQL = "INSERT IGNORE INTO daily_score (id, member_challenge_id, date, total_score) " +
+            "VALUES (?, ?, ?, ?)";
+
+    private static final String INSERT_SCORE_EVENT_SQL = "INSERT INTO score_event (" +
+            "id, daily_score_id, member_challenge_id, description, score, current_total_score, created_at) " +
+            "SELECT ?, ds.id, ds.member_challenge_id, ?, ?, ?, ? " +
+            "FROM daily_score ds " +
+            "WHERE ds.id = ?";
+
+    private static final String INCREMENT_TOTAL_SCORE_SQL = "UPDATE member_challenge SET total_score = total_score + ?, score_version = score_version + 1 " +
+            "WHERE id = ? " +
+            "AND EXISTS (SELECT 1 FROM daily_score ds WHERE ds.id = ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public DailyScoreJdbcRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * 점수 0인 DailyScore 단건 생성
+     * - 같은 날 점수가 이미 있으면 DuplicateKeyException (JPA flush와 달리 세션을 깨뜨리지 않음)
+     */
+    public void insert(UUID id, UUID memberChallengeId, LocalDate date) {
+        jdbcTemplate.update(INSERT_DAILY_SCORE_SQL, toBytes(id), toBytes(memberChallengeId), Date.valueOf(date), 0);
+    }
+
+    /**
+     * 대상 회원 챌린지마다 date 일자의 DailyScore를 score 점으로 생성
+     */
+    public void batchInsert(List<DailyScoreTarget> targets, LocalDate date, String description, int score, int batchSize) {
+        List<NewDailyScore> dailyScores = targets.stream()
+                .map(target -> new NewDailyScore(UlidCreator.getMonotonicUlid().toUuid(), target.memberChallengeId()))
+                .toList();
+        Date scoreDate = Date.valueOf(date);
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        jdbcTemplate.batchUpdate(INSERT_IGNORE_DAILY_SCORE_SQL, dailyScores, batchSize, (ps, dailyScore) -> {
+            ps.setBytes(1, toBytes(dailyScore.id()));
+            ps.setBytes(2, toBytes(dailyScore.memberChallengeId()));
+            ps.setDate(3, scoreDate);
+            ps.setInt(4, score);
+        });
+
+        jdbcTemplate.batchUpdate(INSERT_SCORE_EVENT_SQL, dailyScores, batchSize, (ps, dailyScore) -> {
+            ps.setBytes(1, toBytes(UlidCreator.getMonotonicUlid().toUuid()));
+            ps.setString(2, description);
+            ps.setInt(3, score);
+            ps.setInt(4, score);
+            ps.setTimestamp(5, now);
+            ps.setBytes(6, toBytes(dailyScore.id()));
+        });
+
+        jdbcTemplate.batchUpdate(INCREMENT_TOTAL_SCORE_SQL, dailyScores, batchSize, (ps, dailyScore) -> {
+            ps.setInt(1, score);
+            ps.setBytes(2, toBytes(dailyScore.memberChallengeId()));
+            ps.setBytes(3, toBytes(dailyScore.id()));
+        });
+    }
+
+    private record NewDailyScore(UUID id, UUID memberChallengeId) {
+    }
+}
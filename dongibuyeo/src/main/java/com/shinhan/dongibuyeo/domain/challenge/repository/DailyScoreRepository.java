@@ -1,7 +1,11 @@
 package com.shinhan.dongibuyeo.domain.challenge.repository;
 
+import com.shinhan.dongibuyeo.domain.challenge.dto.ScoreTotals;
 import com.shinhan.dongibuyeo.domain.challenge.entity.DailyScore;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 
 import java.time.LocalDate;
@@ -15,4 +19,31 @@ public interface DailyScoreRepository extends JpaRepository<DailyScore, UUID> {
             "WHERE ds.memberChallenge.id = :memberChallengeId " +
             "AND ds.date = :date ")
     Optional<DailyScore> findByMemberChallengeIdAndDate(UUID memberChallengeId, LocalDate date);
+
+    /**
+     * 중복 키로 생성에 실패한 뒤 다시 읽을 때 사용
+     * - 잠금 읽기라 트랜잭션 스냅샷 이후 다른 트랜잭션이 커밋한 행도 보인다.
+     */
+    @Lock(LockModeType.PESSIMISTIC_READ)
+    @Query("SELECT ds " +
+            "FROM DailyScore ds " +
+            "WHERE ds.memberChallenge.id = :memberChallengeId " +
+            "AND ds.date = :date ")
+    Optional<DailyScore> findLockedByMemberChallengeIdAndDate(UUID memberChallengeId, LocalDate date);
+
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE DailyScore ds " +
+            "SET ds.totalScore = ds.totalScore + :score " +
+            "WHERE ds.id = :dailyScoreId ")
+    int incrementTotalScore(UUID dailyScoreId, int score);
+
+    /**
+     * 점수 반영 후 누적 점수 조회
+     * - 같은 트랜잭션에서 증가 UPDATE로 행 잠금을 잡은 뒤 읽으므로 이번 반영까지 포함된 값
+     */
+    @Query("SELECT new com.shinhan.dongibuyeo.domain.challenge.dto.ScoreTotals(mc.challenge.id, ds.totalScore, mc.totalScore, mc.scoreVersion) " +
+            "FROM DailyScore ds " +
+            "JOIN ds.memberChallenge mc " +
+            "WHERE ds.id = :dailyScoreId ")
+    ScoreTotals findScoreTotalsById(UUID dailyScoreId);
 }
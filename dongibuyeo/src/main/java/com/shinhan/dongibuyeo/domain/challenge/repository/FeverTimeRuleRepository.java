@@ -0,0 +1,12 @@
+package com.shinhan.dongibuyeo.domain.challenge.repository;
+
+import com.shinhan.dongibuyeo.domain.challenge.entity.FeverTimeRule;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+import java.util.UUID;
+
+public interface FeverTimeRuleRepository extends JpaRepository<FeverTimeRule, UUID> {
+
+    List<FeverTimeRule> findAllByEnabledTrue();
+}
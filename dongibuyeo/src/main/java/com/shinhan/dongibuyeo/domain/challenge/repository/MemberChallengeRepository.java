@@ -1,17 +1,27 @@
 package com.shinhan.dongibuyeo.domain.challenge.repository;
 
+import com.shinhan.dongibuyeo.domain.challenge.dto.DailyScoreTarget;
 import com.shinhan.dongibuyeo.domain.challenge.dto.response.ChallengeRewardStatistics;
 import com.shinhan.dongibuyeo.domain.challenge.dto.response.MemberChallengeDetail;
 import com.shinhan.dongibuyeo.domain.challenge.dto.response.TopRankerInfo;
 import com.shinhan.dongibuyeo.domain.challenge.entity.*;
+import com.shinhan.dongibuyeo.domain.challenge.score.leaderboard.LeaderboardEntry;
+import com.shinhan.dongibuyeo.global.draw.DrawCandidate;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 public interface MemberChallengeRepository extends JpaRepository<MemberChallenge, UUID> {
 
@@ -70,6 +80,16 @@ public interface MemberChallengeRepository extends JpaRepository<MemberChallenge
             "AND c.status = :challengeStatus ")
     List<MemberChallenge> findAllByChallengeTypeAndChallengeStatus(ChallengeType challengeType, ChallengeStatus challengeStatus);
 
+    @Query("SELECT mc " +
+            "FROM MemberChallenge mc " +
+            "JOIN FETCH mc.challenge c " +
+            "WHERE mc.member.id IN :memberIds " +
+            "AND c.type IN :challengeTypes " +
+            "AND c.status = :challengeStatus ")
+    List<MemberChallenge> findAllByMemberIdsAndChallengeTypesAndStatus(@Param("memberIds") Collection<UUID> memberIds,
+                                                                       @Param("challengeTypes") Collection<ChallengeType> challengeTypes,
+                                                                       @Param("challengeStatus") ChallengeStatus challengeStatus);
+
     @Query("SELECT new com.shinhan.dongibuyeo.domain.challenge.dto.response.TopRankerInfo(m.nickname, m.email, m.profileImage, mc.totalScore) " +
             "FROM MemberChallenge mc " +
             "JOIN mc.member m " +
@@ -77,8 +97,11 @@ public interface MemberChallengeRepository extends JpaRepository<MemberChallenge
             "ORDER BY mc.totalScore DESC")
     List<TopRankerInfo> findTop5ByChallengeId(@Param("challengeId") UUID challengeId, Pageable pageable);
 
-    @Query("SELECT mc.totalScore FROM MemberChallenge mc WHERE mc.challenge.id = :challengeId ORDER BY mc.totalScore DESC")
-    List<Integer> findAllScoresByChallengeId(@Param("challengeId") UUID challengeId);
+    @Query("SELECT new com.shinhan.dongibuyeo.domain.challenge.score.leaderboard.LeaderboardEntry(mc.id, m.id, m.nickname, m.email, m.profileImage, mc.totalScore, mc.scoreVersion) " +
+            "FROM MemberChallenge mc " +
+            "JOIN mc.member m " +
+            "WHERE mc.challenge.id = :challengeId")
+    List<LeaderboardEntry> findLeaderboardEntriesByChallengeId(@Param("challengeId") UUID challengeId);
 
     @Query("SELECT COALESCE(SUM(mc.baseReward), 0) " +
             "FROM MemberChallenge mc " +
@@ -106,4 +129,69 @@ public interface MemberChallengeRepository extends JpaRepository<MemberChallenge
             @Param("challengeId") UUID challengeId,
             @Param("cutoffScore") Integer cutoffScore
     );
+
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE MemberChallenge mc " +
+            "SET mc.totalScore = mc.totalScore + :score, mc.scoreVersion = mc.scoreVersion + 1 " +
+            "WHERE mc.id = :memberChallengeId ")
+    int incrementTotalScore(@Param("memberChallengeId") UUID memberChallengeId, @Param("score") int score);
+
+    @Modifying
+    @Query("UPDATE MemberChallenge mc " +
+            "SET mc.isSuccess = :isSuccess, " +
+            "mc.baseReward = :baseReward, " +
+            "mc.additionalReward = :additionalReward, " +
+            "mc.status = :status " +
+            "WHERE mc.id = :memberChallengeId ")
+    int updateSettlement(@Param("memberChallengeId") UUID memberChallengeId,
+                         @Param("isSuccess") boolean isSuccess,
+                         @Param("baseReward") long baseReward,
+                         @Param("additionalReward") long additionalReward,
+                         @Param("status") MemberChallengeStatus status);
+
+    @Query("SELECT new com.shinhan.dongibuyeo.domain.challenge.dto.DailyScoreTarget(mc.id, c.id) " +
+            "FROM MemberChallenge mc " +
+            "JOIN mc.challenge c " +
+            "WHERE c.status = :challengeStatus " +
+            "AND NOT EXISTS (SELECT 1 FROM DailyScore ds WHERE ds.memberChallenge = mc AND ds.date = :date)")
+    List<DailyScoreTarget> findDailyScoreTargets(@Param("challengeStatus") ChallengeStatus challengeStatus, @Param("date") LocalDate date);
+
+    /**
+     * 해당 날짜에 진행 중인 타입별 챌린지 참여자의 알림 대상 회원 ID 스트림
+     * - 챌린지 상태와 참여 상태(정산 전)로 진행 중인 참여만 조회, 토큰이 없는 회원 제외
+     * - MySQL 드라이버가 행 단위로 읽도록 fetch size를 Integer.MIN_VALUE로 지정 (트랜잭션 안에서 사용)
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE))
+    @Query("SELECT DISTINCT m.id " +
+            "FROM MemberChallenge mc " +
+            "JOIN mc.challenge c " +
+            "JOIN mc.member m " +
+            "WHERE c.type = :challengeType " +
+            "AND c.status = :challengeStatus " +
+            "AND mc.status = :memberChallengeStatus " +
+            "AND :date BETWEEN c.startDate AND c.endDate " +
+            "AND m.deviceToken IS NOT NULL AND m.deviceToken <> ''")
+    Stream<UUID> streamNotificationMemberIds(
+            @Param("challengeType") ChallengeType challengeType,
+            @Param("challengeStatus") ChallengeStatus challengeStatus,
+            @Param("memberChallengeStatus") MemberChallengeStatus memberChallengeStatus,
+            @Param("date") LocalDate date
+    );
+
+    /**
+     * 챌린지 성공 회원 추첨 후보 스트림 (가중치 1, ID 오름차순)
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE))
+    @Query("SELECT new com.shinhan.dongibuyeo.global.draw.DrawCandidate(mc.id, 1L) " +
+            "FROM MemberChallenge mc " +
+            "WHERE mc.challenge.id = :challengeId " +
+            "AND mc.isSuccess = true " +
+            "ORDER BY mc.id")
+    Stream<DrawCandidate> streamSuccessDrawCandidates(@Param("challengeId") UUID challengeId);
+
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE MemberChallenge mc " +
+            "SET mc.additionalReward = :additionalReward " +
+            "WHERE mc.id IN :memberChallengeIds")
+    int updateAdditionalRewards(@Param("memberChallengeIds") Collection<UUID> memberChallengeIds, @Param("additionalReward") Long additionalReward);
 }
@@ -4,8 +4,8 @@ import com.shinhan.dongibuyeo.domain.account.dto.request.TransferRequest;
 import com.shinhan.dongibuyeo.domain.challenge.entity.ChallengeType;
 import com.shinhan.dongibuyeo.domain.challenge.entity.DailyScore;
 import com.shinhan.dongibuyeo.domain.challenge.entity.MemberChallenge;
-import com.shinhan.dongibuyeo.domain.challenge.entity.ScoreDetail;
-import com.shinhan.dongibuyeo.domain.challenge.repository.DailyScoreRepository;
+import com.shinhan.dongibuyeo.domain.challenge.score.event.ScoreEvent;
+import com.shinhan.dongibuyeo.domain.challenge.score.event.ScoreEventQueue;
 import com.shinhan.dongibuyeo.domain.challenge.service.DailyScoreService;
 import com.shinhan.dongibuyeo.domain.challenge.service.MemberChallengeService;
 import com.shinhan.dongibuyeo.domain.quiz.dto.request.QuizSolveRequest;
@@ -14,12 +14,9 @@ import org.aspectj.lang.JoinPoint;
 import org.aspectj.lang.annotation.AfterReturning;
 import org.aspectj.lang.annotation.Aspect;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
-import java.util.List;
-import java.util.Optional;
 
 @Slf4j
 @Aspect
@@ -28,47 +25,34 @@ public class ScoreAspect {
 
     private final MemberChallengeService memberChallengeService;
     private final DailyScoreService dailyScoreService;
-    private final DailyScoreRepository dailyScoreRepository;
+    private final ScoreEventQueue scoreEventQueue;
 
-    public ScoreAspect(MemberChallengeService memberChallengeService, DailyScoreService dailyScoreService, DailyScoreRepository dailyScoreRepository) {
+    public ScoreAspect(MemberChallengeService memberChallengeService, DailyScoreService dailyScoreService, ScoreEventQueue scoreEventQueue) {
         this.memberChallengeService = memberChallengeService;
         this.dailyScoreService = dailyScoreService;
-        this.dailyScoreRepository = dailyScoreRepository;
+        this.scoreEventQueue = scoreEventQueue;
     }
 
     /**
      * 소비내역을 추적해 챌린지 점수 차감
+     * - 이체 요청 스레드에서는 이벤트만 등록하고, 점수 반영은 ScoreEventQueue 워커가 처리
      */
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
     @AfterReturning("execution(* com.shinhan.dongibuyeo.domain.account.controller.AccountController.accountTransfer(..))")
     public void afterTransfer(JoinPoint joinPoint) {
-        log.info("[afterTransfer] 소비 내역 추적 시작");
         try {
-            Object[] args = joinPoint.getArgs();
-            TransferRequest request = (TransferRequest) args[0];
+            TransferRequest request = (TransferRequest) joinPoint.getArgs()[0];
 
-            String challengeType = "CONSUMPTION_" + request.getTransferType();
-            log.info("Challenge Type: {}", challengeType);
+            ChallengeType challengeType = ChallengeType.getConsumptionTypes().stream()
+                    .filter(type -> type.getTransferType() == request.getTransferType())
+                    .findAny()
+                    .orElse(null);
 
-            List<MemberChallenge> memberChallenges = memberChallengeService.findByMemberId(request.getMemberId());
-            log.info("Found {} member challenges", memberChallenges.size());
-
-            Optional<MemberChallenge> correspondChallenge = memberChallenges.stream()
-                    .filter(memberChallenge -> memberChallenge.getChallenge().getType().toString().equals(challengeType))
-                    .findAny();
-
-            if (correspondChallenge.isPresent()) {
-                MemberChallenge memberChallenge = correspondChallenge.get();
-                log.info("Corresponding challenge found: {}", memberChallenge.getId());
-
-                LocalDate today = LocalDate.now();
-                dailyScoreService.updateDailyScore(memberChallenge, today, challengeType, -5);
+            if (challengeType != null) {
+                scoreEventQueue.publish(new ScoreEvent(request.getMemberId(), challengeType, LocalDate.now(), challengeType.name(), -5));
             }
-
         } catch (Exception e) {
             log.error("Error in afterTransfer method", e);
         }
-        log.info("[afterTransfer] 소비 내역 추적 종료");
     }
 
     /**
@@ -87,10 +71,6 @@ public class ScoreAspect {
                 ChallengeType.QUIZ_SOLBEING);
 
         DailyScore todayScore = dailyScoreService.getOrCreateDailyScore(memberChallenge, today);
-
-        int currentScore = todayScore.getTotalScore();
-        ScoreDetail scoreDetail = new ScoreDetail("SOLVE_QUIZ", +5, currentScore + 5);
-        todayScore.addScoreDetail(scoreDetail);
-        memberChallenge.addDailyScore(todayScore);
+        dailyScoreService.addScore(todayScore, "SOLVE_QUIZ", +5);
     }
 }
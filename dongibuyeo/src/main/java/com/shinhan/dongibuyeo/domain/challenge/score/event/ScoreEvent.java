@@ -0,0 +1,13 @@
+package com.shinhan.dongibuyeo.domain.challenge.score.event;
+
+import com.shinhan.dongibuyeo.domain.challenge.entity.ChallengeType;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * 점수 반영 요청 이벤트
+ * - 회원 + 챌린지 타입 단위로 MemberChallenge에 반영
+ */
+public record ScoreEvent(UUID memberId, ChallengeType challengeType, LocalDate date, String description, int score) {
+}
@@ -0,0 +1,61 @@
+package com.shinhan.dongibuyeo.domain.challenge.score.event;
+
+import com.shinhan.dongibuyeo.domain.challenge.entity.ChallengeStatus;
+import com.shinhan.dongibuyeo.domain.challenge.entity.ChallengeType;
+import com.shinhan.dongibuyeo.domain.challenge.entity.MemberChallenge;
+import com.shinhan.dongibuyeo.domain.challenge.repository.MemberChallengeRepository;
+import com.shinhan.dongibuyeo.domain.challenge.service.DailyScoreService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Service
+public class ScoreEventProcessor {
+
+    private final MemberChallengeRepository memberChallengeRepository;
+    private final DailyScoreService dailyScoreService;
+
+    public ScoreEventProcessor(MemberChallengeRepository memberChallengeRepository, DailyScoreService dailyScoreService) {
+        this.memberChallengeRepository = memberChallengeRepository;
+        this.dailyScoreService = dailyScoreService;
+    }
+
+    /**
+     * 점수 이벤트 일괄 반영 메서드
+     * - 진행중인 MemberChallenge를 한 번에 조회한 뒤 MemberChallenge별로 묶어 순서대로 반영
+     */
+    @Transactional
+    public void process(List<ScoreEvent> events) {
+        Set<UUID> memberIds = events.stream().map(ScoreEvent::memberId).collect(Collectors.toSet());
+        Set<ChallengeType> challengeTypes = events.stream().map(ScoreEvent::challengeType).collect(Collectors.toSet());
+
+        Map<ScoreTarget, MemberChallenge> memberChallenges = memberChallengeRepository
+                .findAllByMemberIdsAndChallengeTypesAndStatus(memberIds, challengeTypes, ChallengeStatus.IN_PROGRESS)
+                .stream()
+                .collect(Collectors.toMap(
+                        memberChallenge -> new ScoreTarget(memberChallenge.getMember().getId(), memberChallenge.getChallenge().getType()),
+                        memberChallenge -> memberChallenge,
+                        (first, second) -> first
+                ));
+
+        Map<ScoreTarget, List<ScoreEvent>> grouped = events.stream()
+                .collect(Collectors.groupingBy(event -> new ScoreTarget(event.memberId(), event.challengeType()), LinkedHashMap::new, Collectors.toList()));
+
+        grouped.forEach((target, targetEvents) -> {
+            MemberChallenge memberChallenge = memberChallenges.get(target);
+            if (memberChallenge == null) {
+                return;
+            }
+            targetEvents.forEach(event -> dailyScoreService.updateDailyScore(memberChallenge, event.date(), event.description(), event.score()));
+        });
+
+        log.info("[ScoreEventProcessor] events: {}, memberChallenges: {}", events.size(), grouped.size());
+    }
+
+    private record ScoreTarget(UUID memberId, ChallengeType challengeType) {
+    }
+}
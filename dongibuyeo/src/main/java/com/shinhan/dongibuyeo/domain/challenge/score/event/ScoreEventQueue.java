@@ -0,0 +1,139 @@
+package com.shinhan.dongibuyeo.domain.challenge.score.event;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+
+/**
+ * 점수 이벤트 큐
+ * - 회원 ID 기준으로 워커를 고정해 같은 회원의 이벤트는 순서대로 처리
+ * - 워커는 큐에 쌓인 이벤트를 batch-size 만큼 모아 한 트랜잭션으로 반영
+ * - 묶음 반영이 실패하면 이벤트마다 다시 반영해 실패한 이벤트만 버리고, 버린 이벤트는 건별로 기록
+ */
+@Slf4j
+@Component
+public class ScoreEventQueue {
+
+    @Value("${shinhan.score.event.workers}")
+    private int workers;
+
+    @Value("${shinhan.score.event.queue-capacity}")
+    private int queueCapacity;
+
+    @Value("${shinhan.score.event.batch-size}")
+    private int batchSize;
+
+    private final ScoreEventProcessor scoreEventProcessor;
+    private final Counter retried;
+    private final Counter dropped;
+    private final List<BlockingQueue<ScoreEvent>> queues = new ArrayList<>();
+    private ExecutorService executor;
+    private volatile boolean running;
+
+    public ScoreEventQueue(ScoreEventProcessor scoreEventProcessor, MeterRegistry meterRegistry) {
+        this.scoreEventProcessor = scoreEventProcessor;
+        this.retried = meterRegistry.counter("score.event.batch.retried");
+        this.dropped = meterRegistry.counter("score.event.dropped");
+    }
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        executor = Executors.newFixedThreadPool(workers, new ThreadFactory() {
+            private int sequence = 0;
+
+            @Override
+            public synchronized Thread newThread(Runnable runnable) {
+                return new Thread(runnable, "score-event-" + sequence++);
+            }
+        });
+
+        for (int i = 0; i < workers; i++) {
+            BlockingQueue<ScoreEvent> queue = new LinkedBlockingQueue<>(queueCapacity);
+            queues.add(queue);
+            executor.submit(() -> drain(queue));
+        }
+    }
+
+    /**
+     * 점수 이벤트 등록 메서드
+     * - 큐가 가득 찬 경우 호출 스레드에서 바로 반영
+     */
+    public void publish(ScoreEvent event) {
+        BlockingQueue<ScoreEvent> queue = queues.get(Math.floorMod(event.memberId().hashCode(), queues.size()));
+        if (!queue.offer(event)) {
+            log.warn("[ScoreEventQueue] queue full, processing on caller thread. memberId: {}", event.memberId());
+            scoreEventProcessor.process(List.of(event));
+        }
+    }
+
+    private void drain(BlockingQueue<ScoreEvent> queue) {
+        List<ScoreEvent> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                ScoreEvent first = queue.poll(1, TimeUnit.SECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                processBatch(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    /**
+     * 묶음 반영 메서드
+     * - 실패하면 롤백된 묶음을 이벤트 단위 트랜잭션으로 다시 반영
+     */
+    private void processBatch(List<ScoreEvent> batch) {
+        try {
+            scoreEventProcessor.process(batch);
+            return;
+        } catch (Exception e) {
+            if (batch.size() == 1) {
+                drop(batch.get(0), e);
+                return;
+            }
+            log.warn("[ScoreEventQueue] failed to process {} events, retrying one by one", batch.size(), e);
+            retried.increment();
+        }
+
+        for (ScoreEvent event : batch) {
+            try {
+                scoreEventProcessor.process(List.of(event));
+            } catch (Exception e) {
+                drop(event, e);
+            }
+        }
+    }
+
+    private void drop(ScoreEvent event, Exception cause) {
+        dropped.increment();
+        log.error("[ScoreEventQueue] dropped score event. memberId: {}, challengeType: {}, date: {}, description: {}, score: {}",
+                event.memberId(), event.challengeType(), event.date(), event.description(), event.score(), cause);
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        executor.shutdown();
+        if (!executor.awaitTermination(30, TimeUnit.SECONDS)) {
+            log.warn("[ScoreEventQueue] shutdown timed out, remaining: {}", queues.stream().mapToInt(BlockingQueue::size).sum());
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package com.shinhan.dongibuyeo.domain.challenge.score.fever;
+
+import com.shinhan.dongibuyeo.domain.challenge.entity.FeverTimeRule;
+
+import java.time.DayOfWeek;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.ToIntFunction;
+
+/**
+ * 피버타임 구간 인덱스 (불변)
+ * - 규칙을 요일별 구간으로 펼친 뒤 종료 시각/알림 시각 기준으로 정렬
+ * - 특정 분에 종료되거나 알림을 보낼 구간을 이진 탐색으로 조회
+ */
+public class FeverTimeIndex {
+
+    static final int MINUTES_PER_DAY = 24 * 60;
+    static final int MINUTES_PER_WEEK = 7 * MINUTES_PER_DAY;
+
+    private static final FeverTimeIndex EMPTY = new FeverTimeIndex(List.of());
+
+    private final EventTable closes;
+    private final EventTable notifications;
+
+    private FeverTimeIndex(List<FeverTimeWindow> windows) {
+        this.closes = new EventTable(windows, window -> (window.startMinute() + window.durationMinutes()) % MINUTES_PER_WEEK);
+        this.notifications = new EventTable(
+                windows.stream().filter(FeverTimeWindow::hasNotification).toList(),
+                FeverTimeWindow::notifyMinute
+        );
+    }
+
+    public static FeverTimeIndex empty() {
+        return EMPTY;
+    }
+
+    public static FeverTimeIndex compile(List<FeverTimeRule> rules) {
+        List<FeverTimeWindow> windows = new ArrayList<>();
+        for (FeverTimeRule rule : rules) {
+            List<DayOfWeek> days = rule.getDayOfWeek() == null
+                    ? List.of(DayOfWeek.values())
+                    : List.of(rule.getDayOfWeek());
+            for (DayOfWeek day : days) {
+                windows.add(toWindow(rule, day));
+            }
+        }
+        return new FeverTimeIndex(windows);
+    }
+
+    private static FeverTimeWindow toWindow(FeverTimeRule rule, DayOfWeek day) {
+        int startOfDay = (day.getValue() - 1) * MINUTES_PER_DAY;
+        int start = minuteOfDay(rule.getStartTime());
+        int end = minuteOfDay(rule.getEndTime());
+        int duration = rule.crossesMidnight() ? end - start + MINUTES_PER_DAY : end - start;
+        LocalTime notifyTime = rule.getNotifyTime() == null ? rule.getStartTime() : rule.getNotifyTime();
+
+        return new FeverTimeWindow(
+                rule.getChallengeType(),
+                startOfDay + start,
+                duration,
+                rule.getScore(),
+                rule.getLabel(),
+                startOfDay + minuteOfDay(notifyTime),
+                rule.getNotificationTitle(),
+                rule.getNotificationContent()
+        );
+    }
+
+    /**
+     * dateTime이 속한 분에 종료된 구간
+     */
+    public List<FeverTimeWindow> closedAt(LocalDateTime dateTime) {
+        return closes.at(minuteOfWeek(dateTime));
+    }
+
+    /**
+     * dateTime이 속한 분에 알림을 보낼 구간
+     */
+    public List<FeverTimeWindow> notifyAt(LocalDateTime dateTime) {
+        return notifications.at(minuteOfWeek(dateTime));
+    }
+
+    static int minuteOfWeek(LocalDateTime dateTime) {
+        return (dateTime.getDayOfWeek().getValue() - 1) * MINUTES_PER_DAY + minuteOfDay(dateTime.toLocalTime());
+    }
+
+    private static int minuteOfDay(LocalTime time) {
+        return time.getHour() * 60 + time.getMinute();
+    }
+
+    /**
+     * 분 단위 키로 정렬된 구간 배열
+     */
+    private static class EventTable {
+
+        private final int[] keys;
+        private final FeverTimeWindow[] windows;
+
+        EventTable(List<FeverTimeWindow> source, ToIntFunction<FeverTimeWindow> key) {
+            this.windows = source.stream()
+                    .sorted(Comparator.comparingInt(key))
+                    .toArray(FeverTimeWindow[]::new);
+            this.keys = Arrays.stream(windows)
+                    .mapToInt(key)
+                    .toArray();
+        }
+
+        List<FeverTimeWindow> at(int minute) {
+            int from = lowerBound(minute);
+            int to = lowerBound(minute + 1);
+            return List.of(Arrays.copyOfRange(windows, from, to));
+        }
+
+        private int lowerBound(int key) {
+            int low = 0;
+            int high = keys.length;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (keys[mid] < key) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.shinhan.dongibuyeo.domain.challenge.score.fever;
+
+import com.shinhan.dongibuyeo.domain.challenge.repository.FeverTimeRuleRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 피버타임 규칙 엔진
+ * - DB 규칙을 주기적으로 다시 읽어 인덱스를 교체 (재배포 없이 규칙 추가/변경)
+ * - 조회 실패 시 기존 인덱스 유지
+ */
+@Slf4j
+@Component
+public class FeverTimeRuleEngine {
+
+    private final FeverTimeRuleRepository feverTimeRuleRepository;
+    private volatile FeverTimeIndex index = FeverTimeIndex.empty();
+
+    public FeverTimeRuleEngine(FeverTimeRuleRepository feverTimeRuleRepository) {
+        this.feverTimeRuleRepository = feverTimeRuleRepository;
+    }
+
+    @Scheduled(fixedDelayString = "${shinhan.fever.refresh-interval-ms}")
+    public void reload() {
+        try {
+            index = FeverTimeIndex.compile(feverTimeRuleRepository.findAllByEnabledTrue());
+        } catch (Exception e) {
+            log.error("[FeverTimeRuleEngine] failed to reload fever time rules", e);
+        }
+    }
+
+    public FeverTimeIndex index() {
+        return index;
+    }
+}
@@ -0,0 +1,37 @@
+package com.shinhan.dongibuyeo.domain.challenge.score.fever;
+
+import com.shinhan.dongibuyeo.domain.challenge.entity.ChallengeType;
+import com.shinhan.dongibuyeo.domain.challenge.score.scheduler.FeverTimeInfo;
+
+import java.time.LocalDateTime;
+
+/**
+ * 주 단위로 펼친 피버타임 구간 1개
+ * - 시각은 월요일 00:00 기준 분(minute-of-week)
+ */
+public record FeverTimeWindow(
+        ChallengeType challengeType,
+        int startMinute,
+        int durationMinutes,
+        int score,
+        String label,
+        int notifyMinute,
+        String notificationTitle,
+        String notificationContent
+) {
+
+    public boolean hasScore() {
+        return score > 0;
+    }
+
+    public boolean hasNotification() {
+        return notificationTitle != null;
+    }
+
+    /**
+     * 종료 시각 기준으로 실제 구간 생성
+     */
+    public FeverTimeInfo toFeverTimeInfo(LocalDateTime closedAt) {
+        return new FeverTimeInfo(closedAt.minusMinutes(durationMinutes), closedAt, label, score);
+    }
+}
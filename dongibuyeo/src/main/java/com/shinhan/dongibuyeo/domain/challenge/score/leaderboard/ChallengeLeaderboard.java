@@ -0,0 +1,86 @@
+package com.shinhan.dongibuyeo.domain.challenge.score.leaderboard;
+
+import java.util.*;
+
+/**
+ * 챌린지 단위 순위표
+ * - 점수 분포: Fenwick tree (순위, 상위 N% 점수 O(log n))
+ * - 상위 N명: 점수 내림차순 정렬 집합 (O(log n + N))
+ */
+public class ChallengeLeaderboard {
+
+    private static final Comparator<LeaderboardEntry> RANK_ORDER = Comparator
+            .comparingInt(LeaderboardEntry::totalScore).reversed()
+            .thenComparing(LeaderboardEntry::memberChallengeId);
+
+    private final Map<UUID, LeaderboardEntry> entries = new HashMap<>();
+    private final Map<UUID, UUID> memberChallengeIds = new HashMap<>();
+    private final NavigableSet<LeaderboardEntry> ranking = new TreeSet<>(RANK_ORDER);
+    private final ScoreFenwickTree distribution = new ScoreFenwickTree();
+
+    private final long loadedAt;
+
+    public ChallengeLeaderboard(Collection<LeaderboardEntry> entries, long loadedAt) {
+        entries.forEach(this::put);
+        this.loadedAt = loadedAt;
+    }
+
+    public boolean isExpired(long now, long ttlMillis) {
+        return now - loadedAt >= ttlMillis;
+    }
+
+    public synchronized int size() {
+        return distribution.size();
+    }
+
+    /**
+     * 점수 버전이 적재 시점보다 새로운 경우에만 반영 (이미 반영된 점수의 중복/역순 적용 방지)
+     */
+    public synchronized void applyScore(UUID memberChallengeId, LeaderboardScore score) {
+        LeaderboardEntry entry = entries.get(memberChallengeId);
+        if (entry == null || score.version() <= entry.version()) {
+            return;
+        }
+        remove(entry);
+        put(entry.withScore(score));
+    }
+
+    public synchronized Optional<LeaderboardEntry> findByMemberId(UUID memberId) {
+        return Optional.ofNullable(memberChallengeIds.get(memberId)).map(entries::get);
+    }
+
+    /**
+     * 동점자는 같은 순위 (1부터)
+     */
+    public synchronized int rankOf(int score) {
+        return distribution.countGreaterThan(score) + 1;
+    }
+
+    /**
+     * 상위 ratio 비율 경계 점수 (ex. 0.1 -> 상위 10% 컷)
+     */
+    public synchronized int cutoff(double ratio) {
+        int size = distribution.size();
+        if (size == 0) {
+            return 0;
+        }
+        int k = Math.max((int) Math.ceil(size * ratio), 1);
+        return distribution.kthHighest(k);
+    }
+
+    public synchronized List<LeaderboardEntry> top(int n) {
+        return ranking.stream().limit(n).toList();
+    }
+
+    private void put(LeaderboardEntry entry) {
+        entries.put(entry.memberChallengeId(), entry);
+        memberChallengeIds.put(entry.memberId(), entry.memberChallengeId());
+        ranking.add(entry);
+        distribution.add(entry.totalScore(), 1);
+    }
+
+    private void remove(LeaderboardEntry entry) {
+        ranking.remove(entry);
+        distribution.add(entry.totalScore(), -1);
+    }
+}
@@ -0,0 +1,16 @@
+package com.shinhan.dongibuyeo.domain.challenge.score.leaderboard;
+
+import com.shinhan.dongibuyeo.domain.challenge.dto.response.TopRankerInfo;
+
+import java.util.UUID;
+
+public record LeaderboardEntry(UUID memberChallengeId, UUID memberId, String nickname, String email, String profileImage, int totalScore, long version) {
+
+    public LeaderboardEntry withScore(LeaderboardScore score) {
+        return new LeaderboardEntry(memberChallengeId, memberId, nickname, email, profileImage, score.totalScore(), score.version());
+    }
+
+    public TopRankerInfo toTopRankerInfo() {
+        return new TopRankerInfo(nickname, email, profileImage, totalScore);
+    }
+}
@@ -0,0 +1,82 @@
+package com.shinhan.dongibuyeo.domain.challenge.score.leaderboard;
+
+import com.shinhan.dongibuyeo.domain.challenge.repository.MemberChallengeRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 챌린지별 순위표 관리
+ * - 최초 조회 시 DB에서 적재, 이후 점수 변경은 커밋 후 점수 버전 비교로 반영
+ * - 적재 후 ttl이 지나면 재적재 (다른 인스턴스에서 반영된 점수 동기화)
+ * - 참여자 변경(참여, 취소, 중도해지) 및 챌린지 종료 시에는 폐기
+ */
+@Component
+public class LeaderboardRegistry {
+
+    private final MemberChallengeRepository memberChallengeRepository;
+    private final long ttlMillis;
+    private final Map<UUID, ChallengeLeaderboard> leaderboards = new ConcurrentHashMap<>();
+
+    public LeaderboardRegistry(MemberChallengeRepository memberChallengeRepository,
+                               @Value("${shinhan.score.leaderboard.ttl-ms}") long ttlMillis) {
+        this.memberChallengeRepository = memberChallengeRepository;
+        this.ttlMillis = ttlMillis;
+    }
+
+    public ChallengeLeaderboard get(UUID challengeId) {
+        return leaderboards.compute(challengeId, (id, leaderboard) -> {
+            long now = System.currentTimeMillis();
+            if (leaderboard != null && !leaderboard.isExpired(now, ttlMillis)) {
+                return leaderboard;
+            }
+            return new ChallengeLeaderboard(memberChallengeRepository.findLeaderboardEntriesByChallengeId(id), now);
+        });
+    }
+
+    /**
+     * score: 점수 반영 직후의 누적 점수와 버전
+     * - 적재 스냅샷에 이미 포함된 변경은 버전 비교로 무시됨
+     */
+    public void applyScore(UUID challengeId, UUID memberChallengeId, LeaderboardScore score) {
+        afterCommit(() -> {
+            ChallengeLeaderboard leaderboard = leaderboards.get(challengeId);
+            if (leaderboard != null) {
+                leaderboard.applyScore(memberChallengeId, score);
+            }
+        });
+    }
+
+    public void evict(UUID challengeId) {
+        afterCommit(() -> leaderboards.remove(challengeId));
+    }
+
+    /**
+     * 만료된 순위표 정리 (조회되지 않는 챌린지의 순위표가 계속 남지 않도록)
+     */
+    @Scheduled(fixedDelayString = "${shinhan.score.leaderboard.ttl-ms}")
+    public void evictExpired() {
+        long now = System.currentTimeMillis();
+        leaderboards.values().removeIf(leaderboard -> leaderboard.isExpired(now, ttlMillis));
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
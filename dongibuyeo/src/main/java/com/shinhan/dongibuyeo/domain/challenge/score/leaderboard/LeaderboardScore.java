@@ -0,0 +1,7 @@
+package com.shinhan.dongibuyeo.domain.challenge.score.leaderboard;
+
+/**
+ * 회원 챌린지의 누적 점수와 점수 버전 (점수가 증가할 때마다 버전 +1)
+ */
+public record LeaderboardScore(int totalScore, long version) {
+}
@@ -0,0 +1,104 @@
+package com.shinhan.dongibuyeo.domain.challenge.score.leaderboard;
+
+/**
+ * 점수별 인원수를 저장하는 Fenwick tree
+ * - 점수 범위를 벗어나면 범위를 두 배로 늘려 재구성
+ */
+class ScoreFenwickTree {
+
+    private static final int INITIAL_CAPACITY = 256;
+
+    private int minScore;
+    private int capacity;
+    private int[] tree;
+    private int[] counts;
+    private int size;
+
+    ScoreFenwickTree() {
+        this.minScore = -INITIAL_CAPACITY / 2;
+        this.capacity = INITIAL_CAPACITY;
+        this.tree = new int[capacity + 1];
+        this.counts = new int[capacity];
+    }
+
+    int size() {
+        return size;
+    }
+
+    void add(int score, int delta) {
+        ensureRange(score);
+        counts[score - minScore] += delta;
+        size += delta;
+        update(score - minScore + 1, delta);
+    }
+
+    /**
+     * score 보다 높은 점수를 가진 인원수
+     */
+    int countGreaterThan(int score) {
+        if (score < minScore) {
+            return size;
+        }
+        if (score >= minScore + capacity) {
+            return 0;
+        }
+        return size - prefixSum(score - minScore + 1);
+    }
+
+    /**
+     * 높은 점수 순으로 k번째(1부터) 인원의 점수
+     */
+    int kthHighest(int k) {
+        // 낮은 점수 순으로 (size - k + 1)번째
+        int target = size - k + 1;
+        int position = 0;
+        for (int step = Integer.highestOneBit(capacity); step > 0; step >>= 1) {
+            int next = position + step;
+            if (next <= capacity && tree[next] < target) {
+                position = next;
+                target -= tree[next];
+            }
+        }
+        return position + minScore;
+    }
+
+    private void ensureRange(int score) {
+        if (score >= minScore && score < minScore + capacity) {
+            return;
+        }
+
+        int newMin = minScore;
+        int newCapacity = capacity;
+        while (score < newMin || score >= newMin + newCapacity) {
+            newMin -= newCapacity / 2;
+            newCapacity *= 2;
+        }
+
+        int[] newCounts = new int[newCapacity];
+        System.arraycopy(counts, 0, newCounts, minScore - newMin, capacity);
+
+        this.minScore = newMin;
+        this.capacity = newCapacity;
+        this.counts = newCounts;
+        this.tree = new int[newCapacity + 1];
+        for (int i = 0; i < newCapacity; i++) {
+            if (newCounts[i] != 0) {
+                update(i + 1, newCounts[i]);
+            }
+        }
+    }
+
+    private void update(int index, int delta) {
+        for (int i = index; i <= capacity; i += i & -i) {
+            tree[i] += delta;
+        }
+    }
+
+    private int prefixSum(int index) {
+        int sum = 0;
+        for (int i = index; i > 0; i -= i & -i) {
+            sum += tree[i];
+        }
+        return sum;
+    }
+}
@@ -5,7 +5,9 @@ import com.shinhan.dongibuyeo.domain.challenge.entity.Challenge;
 import com.shinhan.dongibuyeo.domain.challenge.entity.ChallengeStatus;
 import com.shinhan.dongibuyeo.domain.challenge.repository.ChallengeRepository;
 import com.shinhan.dongibuyeo.domain.challenge.service.ChallengeRewardService;
+import com.shinhan.dongibuyeo.domain.challenge.service.ChallengeService;
 import com.shinhan.dongibuyeo.domain.challenge.service.DailyScoreService;
+import com.shinhan.dongibuyeo.global.lock.SchedulerLock;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.batch.core.Job;
 import org.springframework.batch.core.JobParametersBuilder;
@@ -21,6 +23,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.UUID;
 
 @Component
 @EnableScheduling
@@ -30,13 +33,15 @@ public class ChallengeScheduler {
     private final NotificationService notificationService;
     private final ChallengeRepository challengeRepository;
     private final ChallengeRewardService challengeRewardService;
+    private final ChallengeService challengeService;
     private final DailyScoreService dailyScoreService;
     private final JobLauncher jobLauncher;
     private final Job job;
 
-    public ChallengeScheduler(ChallengeRepository challengeRepository, ChallengeRewardService challengeRewardService, DailyScoreService dailyScoreService, NotificationService notificationService, JobLauncher jobLauncher, Job job) {
+    public ChallengeScheduler(ChallengeRepository challengeRepository, ChallengeRewardService challengeRewardService, ChallengeService challengeService, DailyScoreService dailyScoreService, NotificationService notificationService, JobLauncher jobLauncher, Job job) {
         this.challengeRepository = challengeRepository;
         this.challengeRewardService = challengeRewardService;
+        this.challengeService = challengeService;
         this.dailyScoreService = dailyScoreService;
         this.notificationService = notificationService;
         this.jobLauncher = jobLauncher;
@@ -44,38 +49,19 @@ public class ChallengeScheduler {
     }
 
     /**
-     * 매일 자정 모든 챌린지 상태 변경 및 일일 점수 생성
+     * 매일 자정 챌린지 상태 변경 및 일일 점수 생성
+     * - 오늘 시작되는 챌린지만 UPDATE, 일일 점수는 진행 중인 참여자 대상으로 batch INSERT
      */
     @Scheduled(cron = "0 0 0 * * ?")
-    @Transactional
+    @SchedulerLock(name = "challenge.daily-transition")
     public void updateChallengeStatusesAndCreateDailyScores() {
         LocalDate today = LocalDate.now();
         log.info("Starting daily challenge update and score creation for date: {}", today);
 
-        challengeRepository.findAll().forEach(challenge -> {
-            LocalDate now = LocalDate.now();
-            LocalDate startDate = challenge.getStartDate();
-            LocalDate endDate = challenge.getEndDate();
+        List<UUID> startedChallengeIds = challengeService.startScheduledChallenges(today);
+        int createdDailyScores = dailyScoreService.createDailyScores(today);
 
-            if (startDate == null || endDate == null || now.isBefore(startDate)) {
-                challenge.updateStatus(ChallengeStatus.SCHEDULED);
-
-            } else if (challenge.getStatus() == ChallengeStatus.SCHEDULED){
-                notificationService.sendNotificationMemberChallenges(challenge.getChallengeMembers(),"챌린지 시작","사전 신청하신 챌린지가 시작되었습니다!");
-                challenge.updateStatus(ChallengeStatus.IN_PROGRESS);
-            }
-
-            // 진행 중인 챌린지 일일 점수 생성
-            if (challenge.getStatus() == ChallengeStatus.IN_PROGRESS) {
-                challenge.getChallengeMembers().forEach(memberChallenge -> {
-                    try {
-                        dailyScoreService.getOrCreateDailyScore(memberChallenge, today);
-                    } catch (Exception e) {
-                        log.error("Error creating daily score for challenge member: {}", memberChallenge.getId(), e);
-                    }
-                });
-            }
-        });
+        log.info("Started challenges: {}, created daily scores: {}", startedChallengeIds.size(), createdDailyScores);
     }
 
     /**
@@ -103,10 +89,15 @@ public class ChallengeScheduler {
 //        log.info("Finished checking for ended challenges");
 //    }
 
+    /**
+     * 완료 챌린지 정산 배치 실행
+     * - 정산 대상일을 파라미터로 사용하므로 실패 시 같은 날짜로 재실행하면 중단 지점부터 이어서 처리
+     */
     @Scheduled(cron = "0 0 4 * * ?")
+    @SchedulerLock(name = "challenge.settlement")
     public void runCheckAndCompleteEndedChallengesJob() throws JobInstanceAlreadyCompleteException, JobExecutionAlreadyRunningException, JobParametersInvalidException, JobRestartException {
         jobLauncher.run(
-            job, new JobParametersBuilder().addLong("timeStamp", System.currentTimeMillis()).toJobParameters()
+            job, new JobParametersBuilder().addLocalDate("settlementDate", LocalDate.now().minusDays(1)).toJobParameters()
         );
     }
 
@@ -6,7 +6,7 @@ import com.shinhan.dongibuyeo.domain.challenge.service.MemberChallengeService;
 import com.shinhan.dongibuyeo.domain.savings.dto.response.PaymentInfo;
 import com.shinhan.dongibuyeo.domain.savings.dto.response.SavingPaymentInfo;
 import com.shinhan.dongibuyeo.domain.savings.service.SavingsService;
-import com.shinhan.dongibuyeo.global.entity.TransferType;
+import com.shinhan.dongibuyeo.global.lock.SchedulerLock;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.scheduling.annotation.Scheduled;
@@ -14,7 +14,6 @@ import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
-import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.List;
 import java.util.UUID;
@@ -40,6 +39,7 @@ public class DailyScoreScheduler {
      */
     @Transactional
     @Scheduled(cron = "0 31 6 * * ?")
+    @SchedulerLock(name = "score.savings-deposit")
     public void checkSavingsDeposits() {
 
         List<MemberChallenge> memberChallenges = memberChallengeService.findAllByChallengeTypeAndStatus(ChallengeType.SAVINGS_SEVEN, ChallengeStatus.IN_PROGRESS);
@@ -58,10 +58,7 @@ public class DailyScoreScheduler {
                 if (paymentDate.equals(today) && "SUCCESS".equals(todayPayment.getStatus())) {
                     // 오늘 납입이 성공한 경우 5점 추가
                     DailyScore todayScore = dailyScoreService.getOrCreateDailyScore(memberChallenge, today);
-                    int currentScore = todayScore.getTotalScore();
-                    ScoreDetail scoreDetail = new ScoreDetail("DAILY SAVINGS", +5, currentScore + 5);
-                    todayScore.addScoreDetail(scoreDetail);
-                    memberChallenge.addDailyScore(todayScore);
+                    dailyScoreService.addScore(todayScore, "DAILY SAVINGS", +5);
                 } else {
                     memberChallengeService.withdrawChallenge(challenge.getId(), memberId);
                 }
@@ -72,32 +69,4 @@ public class DailyScoreScheduler {
         }
     }
 
-    @Scheduled(cron = "1 10,14 * * * *") // 10:01, 14:01에 실행
-    public void checkCoffeeFeverTime() {
-        checkFeverTime(ChallengeType.CONSUMPTION_COFFEE, TransferType.COFFEE);
-    }
-
-    @Scheduled(cron = "1 0 0 * * SAT") // 토요일 00:01에 실행 (금요일 체크)
-    public void checkFridayAlcoholFeverTime() {
-        dailyScoreService.rewardNonConsumptionDuringFeverTime(ChallengeType.CONSUMPTION_DRINK, TransferType.DRINK);
-    }
-
-    @Scheduled(cron = "1 0 0 * * SUN") // 일요일 00:01에 실행 (토요일 체크)
-    public void checkSaturdayAlcoholFeverTime() {
-        dailyScoreService.rewardNonConsumptionDuringFeverTime(ChallengeType.CONSUMPTION_DRINK, TransferType.DRINK);
-    }
-
-    @Scheduled(cron = "1 2 * * * *") // 매시 02:01에 실행
-    public void checkDeliveryFeverTime() {
-        checkFeverTime(ChallengeType.CONSUMPTION_DELIVERY, TransferType.DELIVERY);
-    }
-
-    private void checkFeverTime(ChallengeType challengeType, TransferType transferType) {
-        LocalDateTime now = LocalDateTime.now().minusMinutes(1); // 1분 전 시간으로 체크
-        if (FeverTimeChecker.isFeverTime(challengeType, now)) {
-            log.info("Checking non-consumption for challenge type: {}", challengeType);
-            dailyScoreService.rewardNonConsumptionDuringFeverTime(challengeType, transferType);
-        }
-    }
-
-}
\ No newline at end of file
+}
@@ -0,0 +1,82 @@
+package com.shinhan.dongibuyeo.domain.challenge.score.scheduler;
+
+import com.shinhan.dongibuyeo.domain.challenge.entity.ChallengeType;
+import com.shinhan.dongibuyeo.domain.challenge.score.fever.FeverTimeIndex;
+import com.shinhan.dongibuyeo.domain.challenge.score.fever.FeverTimeRuleEngine;
+import com.shinhan.dongibuyeo.domain.challenge.score.fever.FeverTimeWindow;
+import com.shinhan.dongibuyeo.domain.challenge.service.ChallengeService;
+import com.shinhan.dongibuyeo.domain.challenge.service.DailyScoreService;
+import com.shinhan.dongibuyeo.global.lock.SchedulerLock;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 피버타임 점수 계산 / 알림 스케줄러
+ * - 매분 1초에 직전 분에 종료된 구간의 무소비 점수 반영, 알림 시각이 된 구간의 알림 발송
+ * - 거래내역은 같은 분에 종료된 구간끼리만 묶어 조회 (종료 직후 보상하기 위해 당일 구간 전체를 기다리지 않음)
+ * - 분산 락으로 분당 1개 인스턴스에서만 실행
+ */
+@Component
+@EnableScheduling
+@Slf4j
+public class FeverTimeScheduler {
+
+    private final FeverTimeRuleEngine feverTimeRuleEngine;
+    private final DailyScoreService dailyScoreService;
+    private final ChallengeService challengeService;
+
+    public FeverTimeScheduler(FeverTimeRuleEngine feverTimeRuleEngine, DailyScoreService dailyScoreService, ChallengeService challengeService) {
+        this.feverTimeRuleEngine = feverTimeRuleEngine;
+        this.dailyScoreService = dailyScoreService;
+        this.challengeService = challengeService;
+    }
+
+    @Scheduled(cron = "1 * * * * *")
+    @SchedulerLock(name = "score.fever-time")
+    public void fire() {
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.MINUTES);
+        FeverTimeIndex index = feverTimeRuleEngine.index();
+
+        rewardClosedWindows(index, now);
+        sendNotifications(index, now);
+    }
+
+    private void rewardClosedWindows(FeverTimeIndex index, LocalDateTime minute) {
+        Map<ChallengeType, List<FeverTimeWindow>> closedWindows = index.closedAt(minute)
+                .stream()
+                .filter(FeverTimeWindow::hasScore)
+                .collect(Collectors.groupingBy(FeverTimeWindow::challengeType, LinkedHashMap::new, Collectors.toList()));
+
+        closedWindows.forEach((challengeType, windows) -> {
+            log.info("Checking non-consumption for challenge type: {}, windows: {}", challengeType, windows.size());
+            try {
+                dailyScoreService.rewardNonConsumptionDuringFeverTime(
+                        challengeType,
+                        challengeType.getTransferType(),
+                        windows.stream().map(window -> window.toFeverTimeInfo(minute)).toList()
+                );
+            } catch (Exception e) {
+                log.error("[FeverTimeScheduler] failed to reward fever time: {}", challengeType, e);
+            }
+        });
+    }
+
+    private void sendNotifications(FeverTimeIndex index, LocalDateTime minute) {
+        for (FeverTimeWindow window : index.notifyAt(minute)) {
+            try {
+                challengeService.notifyChallengeMembers(window.challengeType(), minute.toLocalDate(), window.notificationTitle(), window.notificationContent());
+            } catch (Exception e) {
+                log.error("[FeverTimeScheduler] failed to send fever time notification: {}", window.label(), e);
+            }
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.shinhan.dongibuyeo.domain.challenge.score.util;
+
+import com.shinhan.dongibuyeo.domain.account.dto.response.TransactionHistory;
+import com.shinhan.dongibuyeo.domain.consume.service.LedgerSyncService;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+
+/**
+ * 거래 시각 정렬 배열
+ * - 거래내역을 한 번만 파싱해 두고, 구간 내 거래 존재 여부를 이진 탐색으로 판별
+ */
+public class ConsumptionTimeline {
+
+    private final long[] transactedAt;
+
+    private ConsumptionTimeline(long[] transactedAt) {
+        this.transactedAt = transactedAt;
+    }
+
+    public static ConsumptionTimeline of(List<TransactionHistory> transactions) {
+        long[] transactedAt = transactions.stream()
+                .mapToLong(transaction -> toEpochSecond(LedgerSyncService.toTransactedAt(transaction.getTransactionDate(), transaction.getTransactionTime())))
+                .sorted()
+                .toArray();
+        return new ConsumptionTimeline(transactedAt);
+    }
+
+    /**
+     * [start, end] 구간에 거래가 있는지 확인
+     */
+    public boolean hasAnyBetween(LocalDateTime start, LocalDateTime end) {
+        long from = toEpochSecond(start);
+        int index = lowerBound(from);
+        return index < transactedAt.length && transactedAt[index] <= toEpochSecond(end);
+    }
+
+    private int lowerBound(long key) {
+        int low = 0;
+        int high = transactedAt.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (transactedAt[mid] < key) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private static long toEpochSecond(LocalDateTime dateTime) {
+        return dateTime.toEpochSecond(ZoneOffset.UTC);
+    }
+}
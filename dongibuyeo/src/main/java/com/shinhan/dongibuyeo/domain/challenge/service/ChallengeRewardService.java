@@ -3,6 +3,7 @@ package com.shinhan.dongibuyeo.domain.challenge.service;
 import com.shinhan.dongibuyeo.domain.account.dto.request.TransferRequest;
 import com.shinhan.dongibuyeo.domain.account.entity.Account;
 import com.shinhan.dongibuyeo.domain.account.service.AccountService;
+import com.shinhan.dongibuyeo.domain.challenge.dto.MemberChallengeSettlement;
 import com.shinhan.dongibuyeo.domain.challenge.dto.response.AdditionalRewardResponse;
 import com.shinhan.dongibuyeo.domain.challenge.entity.Challenge;
 import com.shinhan.dongibuyeo.domain.challenge.entity.MemberChallenge;
@@ -10,11 +11,13 @@ import com.shinhan.dongibuyeo.domain.challenge.entity.MemberChallengeStatus;
 import com.shinhan.dongibuyeo.domain.challenge.exception.MemberChallengeNotFoundException;
 import com.shinhan.dongibuyeo.domain.challenge.repository.MemberChallengeRepository;
 import com.shinhan.dongibuyeo.domain.challenge.score.util.ScoreUtils;
+import com.shinhan.dongibuyeo.domain.consume.dto.response.PeriodConsumptionResponse;
 import com.shinhan.dongibuyeo.domain.consume.service.ConsumeService;
 import com.shinhan.dongibuyeo.domain.member.dto.response.MemberResponse;
 import com.shinhan.dongibuyeo.domain.member.entity.Member;
 import com.shinhan.dongibuyeo.domain.member.service.MemberService;
 import com.shinhan.dongibuyeo.domain.quiz.service.QuizService;
+import com.shinhan.dongibuyeo.global.draw.WinnerDrawService;
 import com.shinhan.dongibuyeo.global.entity.TransferType;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -22,8 +25,6 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
-import java.time.temporal.ChronoUnit;
-import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
 import java.util.UUID;
@@ -52,13 +53,17 @@ public class ChallengeRewardService {
     private final ConsumeService consumeService;
     private final AccountService accountService;
     private final MemberService memberService;
+    private final SettlementEvaluator settlementEvaluator;
+    private final WinnerDrawService winnerDrawService;
 
-    public ChallengeRewardService(QuizService quizService, ConsumeService consumeService, AccountService accountService, MemberService memberService, MemberChallengeRepository memberChallengeRepository) {
+    public ChallengeRewardService(QuizService quizService, ConsumeService consumeService, AccountService accountService, MemberService memberService, MemberChallengeRepository memberChallengeRepository, SettlementEvaluator settlementEvaluator, WinnerDrawService winnerDrawService) {
         this.quizService = quizService;
         this.consumeService = consumeService;
         this.accountService = accountService;
         this.memberService = memberService;
         this.memberChallengeRepository = memberChallengeRepository;
+        this.settlementEvaluator = settlementEvaluator;
+        this.winnerDrawService = winnerDrawService;
     }
 
     /**
@@ -103,19 +108,31 @@ public class ChallengeRewardService {
                         }
                 );
 
+        drawSavingsWinners(challenge);
+    }
+
+    public MemberChallengeSettlement evaluateSavingsBaseReward(MemberChallenge memberChallenge) {
+        return new MemberChallengeSettlement(memberChallenge.getId(), true, savingsSevenDeposit, memberChallenge.getAdditionalReward(), MemberChallengeStatus.CALCULATED);
+    }
+
+    /**
+     * 적금 챌린지 추가 환급 당첨자 추첨 메서드
+     * - 성공 회원을 스트리밍하며 저장소 샘플링, 추첨 시드는 챌린지별로 기록
+     */
+    @Transactional
+    public void drawSavingsWinners(Challenge challenge) {
         // 총상금 조회
         Long totalDeposit = challenge.getTotalDeposit();
         Long reward = totalDeposit / savingsWinnerNum;
 
-        List<MemberChallenge> successMembers = challenge.getChallengeMembers();
-        Collections.shuffle(successMembers);
+        List<UUID> winners = winnerDrawService.draw(
+                "SAVINGS:" + challenge.getId(),
+                (int) savingsWinnerNum,
+                () -> memberChallengeRepository.streamSuccessDrawCandidates(challenge.getId())
+        );
 
-        int cnt = 0;
-        for (MemberChallenge successMember : successMembers) {
-            successMember.updateAdditionalReward(reward);
-            cnt++;
-            if (cnt >= 7)
-                break;
+        if (!winners.isEmpty()) {
+            memberChallengeRepository.updateAdditionalRewards(winners, reward);
         }
     }
 
@@ -140,32 +157,39 @@ public class ChallengeRewardService {
 
     /**
      * 소비 챌린지의 기본 환급액 조회 메서드
-     * - 챌린지 성공 여부 판별 후 기본 환급액 계산
+     * - 챌린지 성공 여부 판별 후 기본 환급액 계산 (회원별 평가는 병렬 실행)
      */
     private void getConsumptionBaseRewards(List<MemberChallenge> memberChallenges, Challenge challenge) {
+        List<MemberChallengeSettlement> settlements = settlementEvaluator.evaluateAll(
+                memberChallenges,
+                memberChallenge -> evaluateConsumptionBaseReward(memberChallenge, challenge)
+        );
 
-        LocalDate challengeStartDate = challenge.getStartDate();
-        LocalDate challengeEndDate = challenge.getEndDate();
-
-        // 챌린지 기간과 동일한 길이의 직전 기간 계산
-        long challengeDuration = ChronoUnit.DAYS.between(challengeStartDate, challengeEndDate);
-        LocalDate previousPeriodStartDate = challengeStartDate.minusDays(challengeDuration);
-        LocalDate previousPeriodEndDate = challengeStartDate.minusDays(1);
+        // 평가가 모두 끝난 뒤 한 번에 반영
+        for (int i = 0; i < memberChallenges.size(); i++) {
+            MemberChallenge memberChallenge = memberChallenges.get(i);
+            MemberChallengeSettlement settlement = settlements.get(i);
+            memberChallenge.updateSuccessStatus(settlement.isSuccess());
+            memberChallenge.updateBaseReward(settlement.baseReward());
+        }
+    }
 
+    /**
+     * 회원 1명의 소비 챌린지 기본 환급액 계산 메서드
+     * - 챌린지 기간과 동일한 길이의 직전 기간 소비와 비교
+     */
+    public MemberChallengeSettlement evaluateConsumptionBaseReward(MemberChallenge memberChallenge, Challenge challenge) {
+        UUID memberId = memberChallenge.getMember().getId();
         TransferType transferType = challenge.getType().getTransferType();
 
-        for (MemberChallenge memberChallenge : memberChallenges) {
-            UUID memberId = memberChallenge.getMember().getId();
-
-            long currentPeriodConsumption = consumeService.getMembersTotalConsumption(memberId, challengeStartDate, challengeEndDate, transferType);
-            long previousPeriodConsumption = consumeService.getMembersTotalConsumption(memberId, previousPeriodStartDate, previousPeriodEndDate, transferType);
+        PeriodConsumptionResponse periodConsumption = consumeService.getSettlementPeriodConsumption(memberId, challenge.getStartDate(), challenge.getEndDate(), transferType);
+        long currentPeriodConsumption = periodConsumption.getCurrentPeriodConsumption();
+        long previousPeriodConsumption = periodConsumption.getPreviousPeriodConsumption();
 
-            boolean isSuccess = currentPeriodConsumption < previousPeriodConsumption;
-            long baseReward = calculateBaseReward(isSuccess, memberChallenge, previousPeriodConsumption, currentPeriodConsumption);
+        boolean isSuccess = currentPeriodConsumption < previousPeriodConsumption;
+        long baseReward = calculateBaseReward(isSuccess, memberChallenge, previousPeriodConsumption, currentPeriodConsumption);
 
-            memberChallenge.updateSuccessStatus(isSuccess);
-            memberChallenge.updateBaseReward(baseReward);
-        }
+        return new MemberChallengeSettlement(memberChallenge.getId(), isSuccess, baseReward, memberChallenge.getAdditionalReward(), memberChallenge.getStatus());
     }
 
     private long calculateBaseReward(boolean isSuccess, MemberChallenge memberChallenge, long previousMonthConsumption, long currentMonthConsumption) {
@@ -219,12 +243,36 @@ public class ChallengeRewardService {
     private void distributeRewardsToGroup(List<MemberChallenge> memberChallenges, int startIndex, int endIndex, long rewardPerUnit) {
         for (int i = startIndex; i < endIndex; i++) {
             MemberChallenge memberChallenge = memberChallenges.get(i);
-            long additionalReward = (long) Math.floor(rewardPerUnit * memberChallenge.getDeposit() / moneyUnit);
-            memberChallenge.updateAdditionalReward(additionalReward);
+            memberChallenge.updateAdditionalReward(calculateAdditionalReward(rewardPerUnit, memberChallenge.getDeposit()));
             memberChallenge.updateStatus(MemberChallengeStatus.CALCULATED);
         }
     }
 
+    public long calculateAdditionalReward(long rewardPerUnit, long deposit) {
+        return (long) Math.floor(rewardPerUnit * deposit / moneyUnit);
+    }
+
+    /**
+     * 집계 쿼리 기반 추가 환급금 단위 금액 계산 메서드
+     * - 기본 환급액이 모두 반영된 이후 호출 (배치 정산용)
+     */
+    public AdditionalRewardResponse calculateConsumptionAdditionalRewardPerUnit(Challenge challenge) {
+        int totalCountOfSuccessMember = memberChallengeRepository.getTotalCountOfSuccessMember(challenge.getId());
+        int top10PercentMemberNum = totalCountOfSuccessMember / 10;
+        int lower90PercentMemberNum = totalCountOfSuccessMember - top10PercentMemberNum;
+
+        long totalBaseRewards = memberChallengeRepository.getSumOfSuccessBaseRewards(challenge.getId())
+                + memberChallengeRepository.getSumOfFailedBaseRewards(challenge.getId());
+
+        return ScoreUtils.calculateEstimatedAdditionalRewardPerUnit(
+                challengeInterestRate,
+                challenge.getTotalDeposit(),
+                challenge.getTotalDeposit() - totalBaseRewards,
+                top10PercentMemberNum,
+                lower90PercentMemberNum
+        );
+    }
+
     private long calculateRemainingPool(List<MemberChallenge> memberChallenges, long totalDepositPool) {
         long totalBaseRewards = memberChallenges.stream()
                 .mapToLong(MemberChallenge::getBaseReward)
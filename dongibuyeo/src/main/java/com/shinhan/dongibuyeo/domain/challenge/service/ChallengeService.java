@@ -14,13 +14,18 @@ import com.shinhan.dongibuyeo.domain.challenge.entity.Challenge;
 import com.shinhan.dongibuyeo.domain.challenge.entity.ChallengeStatus;
 import com.shinhan.dongibuyeo.domain.challenge.entity.ChallengeType;
 import com.shinhan.dongibuyeo.domain.challenge.entity.MemberChallenge;
+import com.shinhan.dongibuyeo.domain.challenge.entity.MemberChallengeStatus;
 import com.shinhan.dongibuyeo.domain.challenge.exception.ChallengeNotCompletedException;
 import com.shinhan.dongibuyeo.domain.challenge.exception.ChallengeNotFoundException;
 import com.shinhan.dongibuyeo.domain.challenge.exception.MemberChallengeNotFoundException;
 import com.shinhan.dongibuyeo.domain.challenge.mapper.ChallengeMapper;
 import com.shinhan.dongibuyeo.domain.challenge.repository.ChallengeRepository;
 import com.shinhan.dongibuyeo.domain.challenge.repository.MemberChallengeRepository;
+import com.shinhan.dongibuyeo.domain.challenge.score.leaderboard.ChallengeLeaderboard;
+import com.shinhan.dongibuyeo.domain.challenge.score.leaderboard.LeaderboardEntry;
+import com.shinhan.dongibuyeo.domain.challenge.score.leaderboard.LeaderboardRegistry;
 import com.shinhan.dongibuyeo.domain.challenge.score.util.ScoreUtils;
+import com.shinhan.dongibuyeo.domain.consume.dto.response.PeriodConsumptionResponse;
 import com.shinhan.dongibuyeo.domain.consume.service.ConsumeService;
 import com.shinhan.dongibuyeo.domain.member.dto.response.MemberResponse;
 import com.shinhan.dongibuyeo.domain.member.service.MemberService;
@@ -31,16 +36,14 @@ import com.shinhan.dongibuyeo.domain.savings.service.SavingsService;
 import com.shinhan.dongibuyeo.global.entity.TransferType;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
-import java.time.temporal.ChronoUnit;
 import java.util.List;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 @Slf4j
 @Service
@@ -60,6 +63,7 @@ public class ChallengeService {
     private final AccountRepository accountRepository;
     private final SavingsService savingsService;
     private final MemberChallengeRepository memberChallengeRepository;
+    private final LeaderboardRegistry leaderboardRegistry;
 
     @Value("${shinhan.savings.seven.bank-code}")
     private String bankCode;
@@ -91,7 +95,7 @@ public class ChallengeService {
     @Value("${shinhan.challenge.interest-rate}")
     private double challengeInterestRate;
 
-    public ChallengeService(MemberService memberService, ChallengeRepository challengeRepository, ChallengeMapper challengeMapper, AccountService accountService, ConsumeService consumeService, ProductService productService, AccountRepository accountRepository, SavingsService savingsService, MemberChallengeRepository memberChallengeRepository, ChallengeRewardService challengeRewardService, NotificationService notificationService) {
+    public ChallengeService(MemberService memberService, ChallengeRepository challengeRepository, ChallengeMapper challengeMapper, AccountService accountService, ConsumeService consumeService, ProductService productService, AccountRepository accountRepository, SavingsService savingsService, MemberChallengeRepository memberChallengeRepository, LeaderboardRegistry leaderboardRegistry, ChallengeRewardService challengeRewardService, NotificationService notificationService) {
         this.memberService = memberService;
         this.challengeRepository = challengeRepository;
         this.challengeMapper = challengeMapper;
@@ -101,6 +105,7 @@ public class ChallengeService {
         this.accountRepository = accountRepository;
         this.savingsService = savingsService;
         this.memberChallengeRepository = memberChallengeRepository;
+        this.leaderboardRegistry = leaderboardRegistry;
         this.challengeRewardService = challengeRewardService;
         this.notificationService = notificationService;
     }
@@ -231,49 +236,75 @@ public class ChallengeService {
         return challengeRepository.findAllChallengesByStatusAndDate(type, curDay);
     }
 
+    /**
+     * 시작일이 된 예정 챌린지 일괄 시작 메서드
+     * - 대상 id 조회 후 한 번의 UPDATE로 IN_PROGRESS 전환, 시작된 챌린지 참여자에게만 알림
+     *
+     * @return 시작된 챌린지 id 목록
+     */
+    @Transactional
+    public List<UUID> startScheduledChallenges(LocalDate today) {
+        List<UUID> challengeIds = challengeRepository.findIdsByStatusAndStartDateLessThanEqual(ChallengeStatus.SCHEDULED, today);
+        if (challengeIds.isEmpty()) {
+            return challengeIds;
+        }
+
+        challengeRepository.updateStatusByIds(challengeIds, ChallengeStatus.IN_PROGRESS);
+        challengeRepository.findAllWithMembersByIdIn(challengeIds)
+                .forEach(challenge -> notificationService.sendNotificationMemberChallenges(challenge.getChallengeMembers(), "챌린지 시작", "사전 신청하신 챌린지가 시작되었습니다!"));
+
+        return challengeIds;
+    }
+
+    /**
+     * 해당 날짜에 진행 중인 챌린지 타입 참여자 전체 알림 발송
+     * - 참여자 엔티티 대신 회원 ID만 스트림으로 읽어 모은 뒤 아웃박스에 적재
+     * - 스트리밍 결과셋이 열린 동안에는 같은 커넥션을 쓸 수 없으므로 적재는 스트림을 닫은 뒤 수행
+     */
+    @Transactional
+    public void notifyChallengeMembers(ChallengeType type, LocalDate curDay, String title, String content) {
+        List<UUID> memberIds;
+        try (Stream<UUID> targets = memberChallengeRepository.streamNotificationMemberIds(
+                type, ChallengeStatus.IN_PROGRESS, MemberChallengeStatus.BEFORE_CALCULATION, curDay)) {
+            memberIds = targets.distinct().toList();
+        }
+
+        notificationService.sendNotificationToMembers(memberIds, title, content);
+    }
+
     public ChallengeRankResponse getChallengeRank(UUID challengeId) {
-        List<Integer> allScores = memberChallengeRepository.findAllScoresByChallengeId(challengeId);
-        int totalParticipants = allScores.size();
-        int top10PercentCutoff = calculateTop10PercentCutoff(allScores, totalParticipants);
+        ChallengeLeaderboard leaderboard = leaderboardRegistry.get(challengeId);
 
-        Pageable top5 = PageRequest.of(0, 5);
-        List<TopRankerInfo> top5RankerInfos = memberChallengeRepository.findTop5ByChallengeId(challengeId, top5);
+        List<TopRankerInfo> top5RankerInfos = leaderboard.top(5).stream()
+                .map(LeaderboardEntry::toTopRankerInfo)
+                .toList();
 
         return ChallengeRankResponse.builder()
                 .challengeId(challengeId)
-                .top10PercentCutoff(top10PercentCutoff)
+                .top10PercentCutoff(leaderboard.cutoff(0.1))
                 .top5Members(top5RankerInfos)
                 .build();
     }
 
     public MemberChallengeRankResponse getMemberChallengeRank(UUID challengeId, UUID memberId) {
-        List<Integer> allScores = memberChallengeRepository.findAllScoresByChallengeId(challengeId);
-        int totalParticipants = allScores.size();
-        int top10PercentCutoff = calculateTop10PercentCutoff(allScores, totalParticipants);
+        ChallengeLeaderboard leaderboard = leaderboardRegistry.get(challengeId);
 
-        MemberChallenge myChallenge = memberChallengeRepository.findMemberChallengeByChallengeIdAndMemberId(challengeId, memberId)
+        LeaderboardEntry myEntry = leaderboard.findByMemberId(memberId)
                 .orElseThrow(() -> new MemberChallengeNotFoundException(challengeId, memberId));
-        int myTotalScore = myChallenge.getTotalScore();
+        int myTotalScore = myEntry.totalScore();
 
-        int currentRank = allScores.indexOf(myTotalScore) + 1;
-        double percentileRank = (double) currentRank / totalParticipants * 100;
+        int currentRank = leaderboard.rankOf(myTotalScore);
+        double percentileRank = (double) currentRank / leaderboard.size() * 100;
 
         return MemberChallengeRankResponse.builder()
                 .memberId(memberId)
                 .challengeId(challengeId)
                 .percentileRank(percentileRank)
                 .totalScore(myTotalScore)
-                .top10PercentCutoff(top10PercentCutoff)
+                .top10PercentCutoff(leaderboard.cutoff(0.1))
                 .build();
     }
 
-    public static int calculateTop10PercentCutoff(List<Integer> scores, int totalParticipants) {
-        if (scores.isEmpty()) return 0;
-
-        int top10PercentIndex = Math.max((int) Math.ceil(totalParticipants * 0.1) - 1, 0);
-        return scores.get(top10PercentIndex);
-    }
-
     public AdditionalRewardResponse calculateEstimatedReward(UUID challengeId) {
         Challenge challenge = findChallengeById(challengeId);
         Long totalDeposit = challenge.getTotalDeposit();
@@ -403,20 +434,13 @@ public class ChallengeService {
         );
         log.info("[getMemberChallengeResult] addtionalReward: {}", additionalReward.getTotalReward());
 
-        // 회원 소비 정보
-        LocalDate challengeStartDate = challenge.getStartDate();
-        LocalDate challengeEndDate = challenge.getEndDate();
-
-        // 챌린지 기간과 동일한 길이의 직전 기간 계산
-        long challengeDuration = ChronoUnit.DAYS.between(challengeStartDate, challengeEndDate);
-        LocalDate previousPeriodStartDate = challengeStartDate.minusDays(challengeDuration);
-        LocalDate previousPeriodEndDate = challengeStartDate.minusDays(1);
-
+        // 회원 소비 정보 (챌린지 기간과 동일한 길이의 직전 기간과 비교)
         TransferType transferType = challenge.getType().getTransferType();
 
         log.info("[getMemberChallengeResult] transferType: {}", transferType);
-        long currentPeriodConsumption = consumeService.getMembersTotalConsumption(memberId, challengeStartDate, challengeEndDate, transferType);
-        long previousPeriodConsumption = consumeService.getMembersTotalConsumption(memberId, previousPeriodStartDate, previousPeriodEndDate, transferType);
+        PeriodConsumptionResponse periodConsumption = consumeService.getMembersPeriodConsumption(memberId, challenge.getStartDate(), challenge.getEndDate(), transferType);
+        long currentPeriodConsumption = periodConsumption.getCurrentPeriodConsumption();
+        long previousPeriodConsumption = periodConsumption.getPreviousPeriodConsumption();
         log.info("[getMemberChallengeReult] consumption: {}", currentPeriodConsumption);
         return MemberChallengeResultResponse.builder()
                 .memberId(memberId)
@@ -445,6 +469,7 @@ public class ChallengeService {
         Challenge challenge = findChallengeById(challengeId);
         challengeRewardService.processConsumptionChallengeRewards(challenge);
         challenge.updateStatus(ChallengeStatus.COMPLETED);
+        leaderboardRegistry.evict(challengeId);
         notificationService.sendNotificationMemberChallenges(challenge.getChallengeMembers(),"챌린지 종료","참여하신 챌린지가 종료되었습니다! 결과를 확인해주세요!");
     }
 }
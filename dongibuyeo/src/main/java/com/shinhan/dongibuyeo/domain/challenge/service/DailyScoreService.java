@@ -1,129 +1,194 @@
 package com.shinhan.dongibuyeo.domain.challenge.service;
 
+import com.github.f4b6a3.ulid.UlidCreator;
 import com.shinhan.dongibuyeo.domain.account.dto.request.TransactionHistoryRequest;
 import com.shinhan.dongibuyeo.domain.account.dto.response.TransactionHistory;
+import com.shinhan.dongibuyeo.domain.challenge.dto.DailyScoreTarget;
+import com.shinhan.dongibuyeo.domain.challenge.dto.ScoreTotals;
 import com.shinhan.dongibuyeo.domain.challenge.entity.*;
+import com.shinhan.dongibuyeo.domain.challenge.repository.DailyScoreEventRepository;
+import com.shinhan.dongibuyeo.domain.challenge.repository.DailyScoreJdbcRepository;
 import com.shinhan.dongibuyeo.domain.challenge.repository.DailyScoreRepository;
+import com.shinhan.dongibuyeo.domain.challenge.repository.MemberChallengeRepository;
+import com.shinhan.dongibuyeo.domain.challenge.score.leaderboard.LeaderboardRegistry;
+import com.shinhan.dongibuyeo.domain.challenge.score.leaderboard.LeaderboardScore;
 import com.shinhan.dongibuyeo.domain.challenge.score.scheduler.FeverTimeInfo;
+import com.shinhan.dongibuyeo.domain.challenge.score.util.ConsumptionTimeline;
 import com.shinhan.dongibuyeo.domain.consume.dto.request.ConsumptionRequest;
 import com.shinhan.dongibuyeo.domain.consume.service.ConsumeService;
 import com.shinhan.dongibuyeo.domain.member.entity.Member;
 import com.shinhan.dongibuyeo.global.entity.TransferType;
+import jakarta.persistence.EntityManager;
 import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Hibernate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
 
 @Service
 @Slf4j
 public class DailyScoreService {
 
+    private static final DateTimeFormatter FEVER_TIME_FORMAT = DateTimeFormatter.ofPattern("yyyyMMddHHmmss");
+    private static final String DAILY_SCORE_DESCRIPTION = "DAILY_SCORE";
+    private static final int DAILY_SCORE = 10;
+
+    @Value("${shinhan.score.daily-batch-size}")
+    private int dailyBatchSize;
+
     private final DailyScoreRepository dailyScoreRepository;
+    private final DailyScoreEventRepository dailyScoreEventRepository;
+    private final DailyScoreJdbcRepository dailyScoreJdbcRepository;
+    private final MemberChallengeRepository memberChallengeRepository;
     private final MemberChallengeService memberChallengeService;
     private final ConsumeService consumeService;
+    private final LeaderboardRegistry leaderboardRegistry;
+    private final EntityManager entityManager;
 
-    public DailyScoreService(DailyScoreRepository dailyScoreRepository, MemberChallengeService memberChallengeService, ConsumeService consumeService) {
+    public DailyScoreService(DailyScoreRepository dailyScoreRepository, DailyScoreEventRepository dailyScoreEventRepository, DailyScoreJdbcRepository dailyScoreJdbcRepository, MemberChallengeRepository memberChallengeRepository, MemberChallengeService memberChallengeService, ConsumeService consumeService, LeaderboardRegistry leaderboardRegistry, EntityManager entityManager) {
         this.dailyScoreRepository = dailyScoreRepository;
+        this.dailyScoreEventRepository = dailyScoreEventRepository;
+        this.dailyScoreJdbcRepository = dailyScoreJdbcRepository;
+        this.memberChallengeRepository = memberChallengeRepository;
         this.memberChallengeService = memberChallengeService;
         this.consumeService = consumeService;
+        this.leaderboardRegistry = leaderboardRegistry;
+        this.entityManager = entityManager;
     }
 
+    /**
+     * 일일 점수 조회 또는 생성 메서드
+     * - 00:00 일괄 생성, 점수 큐, 퀴즈, 피버타임이 같은 날 점수를 동시에 만들 수 있어 유니크 키로 한 건만 생성
+     * - 중복 키로 실패하면 먼저 생성한 쪽이 일일 점수까지 반영했으므로 다시 읽기만 한다.
+     */
     @Transactional
     public DailyScore getOrCreateDailyScore(MemberChallenge memberChallenge, LocalDate date) {
-        return dailyScoreRepository.findByMemberChallengeIdAndDate(memberChallenge.getId(), date)
-                .orElseGet(() -> {
-                    log.info("[getOrCreateDailyScore] Create DailyScore");
-                    DailyScore newDailyScore = new DailyScore(date);
-                    newDailyScore.updateMemberChallenge(memberChallenge);
-                    newDailyScore.addScoreDetail(new ScoreDetail("DAILY_SCORE", 10, 10));
-                    memberChallenge.addDailyScore(newDailyScore);
-                    return newDailyScore;
-                });
+        Optional<DailyScore> existing = dailyScoreRepository.findByMemberChallengeIdAndDate(memberChallenge.getId(), date);
+        if (existing.isPresent()) {
+            return existing.get();
+        }
+
+        log.info("[getOrCreateDailyScore] Create DailyScore");
+        UUID dailyScoreId = UlidCreator.getMonotonicUlid().toUuid();
+        try {
+            dailyScoreJdbcRepository.insert(dailyScoreId, memberChallenge.getId(), date);
+        } catch (DuplicateKeyException e) {
+            log.info("[getOrCreateDailyScore] DailyScore already created: memberChallengeId={}, date={}", memberChallenge.getId(), date);
+            return dailyScoreRepository.findLockedByMemberChallengeIdAndDate(memberChallenge.getId(), date)
+                    .orElseThrow(() -> e);
+        }
+
+        DailyScore newDailyScore = entityManager.find(DailyScore.class, dailyScoreId);
+        addScore(newDailyScore, DAILY_SCORE_DESCRIPTION, DAILY_SCORE);
+        return newDailyScore;
     }
 
+    /**
+     * 진행 중인 챌린지 참여자 일일 점수 일괄 생성 메서드
+     * - 해당 일자 점수가 없는 회원 챌린지만 조회해 JDBC batch로 생성
+     * - 조회 이후 다른 경로가 먼저 생성한 회원 챌린지는 INSERT IGNORE로 건너뜀
+     * - 누적 점수가 SQL로 반영되므로 영향받은 챌린지 순위표는 커밋 후 다시 적재
+     *
+     * @return 생성 대상 일일 점수 수
+     */
     @Transactional
-    public void rewardNonConsumptionDuringFeverTime(ChallengeType challengeType, TransferType transferType) {
-        List<MemberChallenge> activeChallenges = memberChallengeService.findAllByChallengeTypeAndStatus(challengeType, ChallengeStatus.IN_PROGRESS);
-        List<FeverTimeInfo> feverTimes = getFeverTimes(challengeType);
-
-        for (FeverTimeInfo feverTime : feverTimes) {
-            for (MemberChallenge challenge : activeChallenges) {
-                if (!hasConsumptionDuring(challenge, feverTime.getStart(), feverTime.getEnd(), transferType)) {
-                    DailyScore dailyScore = getOrCreateDailyScore(challenge, LocalDate.now());
-                    String description = feverTime.getDescription();
-                    int score = feverTime.getScore();
-                    dailyScore.addScoreDetail(new ScoreDetail(description, score, dailyScore.getTotalScore() + score));
-                    challenge.addDailyScore(dailyScore);
-                }
-            }
+    public int createDailyScores(LocalDate date) {
+        List<DailyScoreTarget> targets = memberChallengeRepository.findDailyScoreTargets(ChallengeStatus.IN_PROGRESS, date);
+        if (targets.isEmpty()) {
+            return 0;
+        }
+
+        dailyScoreJdbcRepository.batchInsert(targets, date, DAILY_SCORE_DESCRIPTION, DAILY_SCORE, dailyBatchSize);
+        targets.stream()
+                .map(DailyScoreTarget::challengeId)
+                .distinct()
+                .forEach(leaderboardRegistry::evict);
+
+        return targets.size();
+    }
+
+    /**
+     * 점수 반영 메서드
+     * - 누적 점수 증가 UPDATE 2건 + 반영 후 누적 점수 SELECT 1건 + score_event INSERT 1건
+     * - 누적 점수는 엔티티가 아닌 SQL 증가 연산으로 반영해 동시 반영 시에도 유실되지 않는다.
+     * - 로딩된 엔티티는 다시 읽지 않고 조회한 누적 점수로만 맞춤 (지연 로딩 연관관계는 초기화하지 않음)
+     */
+    @Transactional
+    public void addScore(DailyScore dailyScore, String description, int score) {
+        MemberChallenge memberChallenge = dailyScore.getMemberChallenge();
+        UUID memberChallengeId = memberChallenge.getId();
+
+        dailyScoreRepository.incrementTotalScore(dailyScore.getId(), score);
+        memberChallengeRepository.incrementTotalScore(memberChallengeId, score);
+        ScoreTotals totals = dailyScoreRepository.findScoreTotalsById(dailyScore.getId());
+
+        dailyScore.syncTotalScore(totals.dailyTotalScore());
+        if (Hibernate.isInitialized(memberChallenge)) {
+            memberChallenge.syncTotalScore(totals.memberChallengeTotalScore(), totals.scoreVersion());
         }
+
+        dailyScoreEventRepository.save(new DailyScoreEvent(dailyScore, memberChallengeId, description, score, totals.dailyTotalScore()));
+        leaderboardRegistry.applyScore(
+                totals.challengeId(),
+                memberChallengeId,
+                new LeaderboardScore(totals.memberChallengeTotalScore(), totals.scoreVersion())
+        );
     }
 
-    private List<FeverTimeInfo> getFeverTimes(ChallengeType challengeType) {
-        LocalDateTime now = LocalDateTime.now();
-        return switch (challengeType) {
-            case CONSUMPTION_COFFEE -> List.of(
-                    new FeverTimeInfo(now.withHour(7).withMinute(0).withSecond(0),
-                            now.withHour(10).withMinute(0).withSecond(0),
-                            "[FEVER] 7AM-10AM", 2),
-                    new FeverTimeInfo(now.withHour(11).withMinute(0).withSecond(0),
-                            now.withHour(14).withMinute(0).withSecond(0),
-                            "[FEVER] 11AM-2PM", 3)
-            );
-            case CONSUMPTION_DRINK -> {
-                DayOfWeek today = now.getDayOfWeek();
-                if (today == DayOfWeek.SATURDAY) {
-                    yield List.of(
-                            new FeverTimeInfo(now.minusDays(1).withHour(0).withMinute(0).withSecond(0),
-                                    now.minusDays(1).withHour(23).withMinute(59).withSecond(59),
-                                    "[FEVER] Friday", 5)
-                    );
-                } else if (today == DayOfWeek.SUNDAY) {
-                    yield List.of(
-                            new FeverTimeInfo(now.minusDays(1).withHour(0).withMinute(0).withSecond(0),
-                                    now.minusDays(1).withHour(23).withMinute(59).withSecond(59),
-                                    "[FEVER] Saturday", 5)
-                    );
-                } else {
-                    yield List.of(); // 다른 요일에는 피버타임 없음
-                }
+    /**
+     * 피버타임 무소비 보상 메서드
+     * - feverTimes: 방금 종료된 피버타임 구간 (FeverTimeScheduler에서 전달)
+     * - 회원마다 전달된 구간 전체(합집합)의 거래내역을 한 번만 조회
+     * - 구간은 종료 시각마다 따로 전달되므로 종료 시각이 다른 구간은 각각 조회 (당일 1회 조회가 아님)
+     * - 각 피버타임 구간은 정렬된 거래 시각에서 이진 탐색으로 판별
+     */
+    @Transactional
+    public void rewardNonConsumptionDuringFeverTime(ChallengeType challengeType, TransferType transferType, List<FeverTimeInfo> feverTimes) {
+        if (feverTimes.isEmpty()) {
+            return;
+        }
+
+        LocalDateTime unionStart = feverTimes.stream().map(FeverTimeInfo::getStart).min(Comparator.naturalOrder()).orElseThrow();
+        LocalDateTime unionEnd = feverTimes.stream().map(FeverTimeInfo::getEnd).max(Comparator.naturalOrder()).orElseThrow();
+
+        List<MemberChallenge> activeChallenges = memberChallengeService.findAllByChallengeTypeAndStatus(challengeType, ChallengeStatus.IN_PROGRESS);
+        for (MemberChallenge challenge : activeChallenges) {
+            ConsumptionTimeline timeline = ConsumptionTimeline.of(getConsumptionHistory(challenge, unionStart, unionEnd, transferType));
+
+            List<FeverTimeInfo> rewarded = feverTimes.stream()
+                    .filter(feverTime -> !timeline.hasAnyBetween(feverTime.getStart(), feverTime.getEnd()))
+                    .toList();
+            if (rewarded.isEmpty()) {
+                continue;
             }
-            case CONSUMPTION_DELIVERY -> List.of(
-                    new FeverTimeInfo(now.minusDays(1).withHour(21).withMinute(0).withSecond(0),
-                            now.withHour(2).withMinute(0).withSecond(0),
-                            "[FEVER] 9PM-2AM", 5)
-            );
-            default -> throw new IllegalArgumentException("Invalid challenge type for fever time");
-        };
+
+            DailyScore dailyScore = getOrCreateDailyScore(challenge, LocalDate.now());
+            rewarded.forEach(feverTime -> addScore(dailyScore, feverTime.getDescription(), feverTime.getScore()));
+        }
     }
 
-    private boolean hasConsumptionDuring(MemberChallenge challenge, LocalDateTime start, LocalDateTime end, TransferType transferType) {
+    private List<TransactionHistory> getConsumptionHistory(MemberChallenge challenge, LocalDateTime start, LocalDateTime end, TransferType transferType) {
         Member member = challenge.getMember();
         ConsumptionRequest request = new ConsumptionRequest(
                 transferType,
                 TransactionHistoryRequest.builder()
                         .memberId(member.getId())
                         .accountNo(member.getChallengeAccount().getAccountNo())
-                        .startDate(start.format(DateTimeFormatter.ofPattern("yyyyMMddHHmmss")))
-                        .endDate(end.format(DateTimeFormatter.ofPattern("yyyyMMddHHmmss")))
+                        .startDate(start.format(FEVER_TIME_FORMAT))
+                        .endDate(end.format(FEVER_TIME_FORMAT))
                         .build()
         );
 
-        List<TransactionHistory> transactions = consumeService.getTypeHistory(request);
-
-        return transactions.stream()
-                .anyMatch(transaction -> {
-                    LocalDateTime transactionDateTime = LocalDateTime.parse(
-                            transaction.getTransactionDate() + transaction.getTransactionTime(),
-                            DateTimeFormatter.ofPattern("yyyyMMddHHmmss")
-                    );
-                    return !transactionDateTime.isBefore(start) && !transactionDateTime.isAfter(end);
-                });
+        return consumeService.getTypeHistory(request);
     }
 
     @Transactional
@@ -131,17 +196,11 @@ public class DailyScoreService {
         DailyScore dailyScore = getOrCreateDailyScore(memberChallenge, date);
 
         // 중복항목 추가 방지
-        boolean descriptionExists = dailyScore.getScoreDetails().stream()
-                .anyMatch(detail -> detail.getDescription().equals(description));
-
-        if (descriptionExists) {
+        if (dailyScoreEventRepository.existsByDailyScoreIdAndDescription(dailyScore.getId(), description)) {
             log.info("Score detail for description '{}' already exists for date {}. Skipping.", description, date);
             return;
         }
 
-        int currentScore = dailyScore.getTotalScore();
-        ScoreDetail scoreDetail = new ScoreDetail(description, score, currentScore + score);
-        dailyScore.addScoreDetail(scoreDetail);
-        memberChallenge.addDailyScore(dailyScore);
+        addScore(dailyScore, description, score);
     }
 }
@@ -10,7 +10,9 @@ import com.shinhan.dongibuyeo.domain.challenge.entity.*;
 import com.shinhan.dongibuyeo.domain.challenge.exception.*;
 import com.shinhan.dongibuyeo.domain.challenge.mapper.ChallengeMapper;
 import com.shinhan.dongibuyeo.domain.challenge.repository.ChallengeRepository;
+import com.shinhan.dongibuyeo.domain.challenge.repository.DailyScoreEventRepository;
 import com.shinhan.dongibuyeo.domain.challenge.repository.MemberChallengeRepository;
+import com.shinhan.dongibuyeo.domain.challenge.score.leaderboard.LeaderboardRegistry;
 import com.shinhan.dongibuyeo.domain.member.entity.Member;
 import com.shinhan.dongibuyeo.domain.member.service.MemberService;
 import com.shinhan.dongibuyeo.domain.savings.dto.response.SavingAccountsDetail;
@@ -24,10 +26,8 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
-import java.util.Comparator;
-import java.util.List;
-import java.util.Optional;
-import java.util.UUID;
+import java.util.*;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Service
@@ -51,16 +51,20 @@ public class MemberChallengeService {
     private final MemberService memberService;
     private final ChallengeRepository challengeRepository;
     private final MemberChallengeRepository memberChallengeRepository;
+    private final DailyScoreEventRepository dailyScoreEventRepository;
+    private final LeaderboardRegistry leaderboardRegistry;
     private final ChallengeMapper challengeMapper;
     private final SavingsService savingsService;
     private final ChallengeRewardService challengeRewardService;
     private final ChallengeService challengeService;
     private final AccountService accountService;
 
-    public MemberChallengeService(MemberService memberService, ChallengeRepository challengeRepository, MemberChallengeRepository memberChallengeRepository, ChallengeMapper challengeMapper, SavingsService savingsService, ChallengeRewardService challengeRewardService, ChallengeService challengeService, ChallengeService challengeService1, AccountService accountService) {
+    public MemberChallengeService(MemberService memberService, ChallengeRepository challengeRepository, MemberChallengeRepository memberChallengeRepository, DailyScoreEventRepository dailyScoreEventRepository, LeaderboardRegistry leaderboardRegistry, ChallengeMapper challengeMapper, SavingsService savingsService, ChallengeRewardService challengeRewardService, ChallengeService challengeService, ChallengeService challengeService1, AccountService accountService) {
         this.memberService = memberService;
         this.challengeRepository = challengeRepository;
         this.memberChallengeRepository = memberChallengeRepository;
+        this.dailyScoreEventRepository = dailyScoreEventRepository;
+        this.leaderboardRegistry = leaderboardRegistry;
         this.challengeMapper = challengeMapper;
         this.savingsService = savingsService;
         this.challengeRewardService = challengeRewardService;
@@ -134,6 +138,7 @@ public class MemberChallengeService {
         challenge.addMember(memberChallenge);
         member.addChallenge(memberChallenge);
         memberChallengeRepository.save(memberChallenge);
+        leaderboardRegistry.evict(challenge.getId());
     }
 
     private void validateDeposit(Long deposit) {
@@ -242,6 +247,7 @@ public class MemberChallengeService {
         challenge.removeMember(memberChallenge);
         member.removeChallenge(memberChallenge);
         memberChallenge.softDelete();
+        leaderboardRegistry.evict(challenge.getId());
     }
 
     @Transactional
@@ -259,6 +265,7 @@ public class MemberChallengeService {
         challengeRewardService.transferFromChallengeAccountToMemberAccount(member, challenge, deposit);
         memberChallenge.updateStatus(MemberChallengeStatus.REWARDED);
         memberChallenge.softDelete();
+        leaderboardRegistry.evict(challengeId);
 
         // 적금 해지(유저 적금 계좌 -> 유저 적금 납입 계좌로 자동 환급됨)
         String accountName = challenge.getType().toString() + challenge.getStartDate().format(DateTimeFormatter.ofPattern("yyMMdd"));
@@ -318,18 +325,25 @@ public class MemberChallengeService {
         MemberChallenge memberChallenge = memberChallengeRepository.findMemberChallengeByChallengeIdAndMemberId(challengeId, memberId)
                 .orElseThrow(() -> new MemberChallengeNotFoundException(challengeId, memberId));
 
+        Map<UUID, List<ScoreDetail>> scoreDetails = dailyScoreEventRepository.findAllByMemberChallengeId(memberChallenge.getId())
+                .stream()
+                .collect(Collectors.groupingBy(
+                        event -> event.getDailyScore().getId(),
+                        Collectors.mapping(DailyScoreEvent::toScoreDetail, Collectors.toList())
+                ));
+
         List<DailyScoreDetailResponse> dailyScores = memberChallenge.getDailyScores().stream()
-                .map(this::convertToDailyScoreDetail)
+                .map(dailyScore -> convertToDailyScoreDetail(dailyScore, scoreDetails.getOrDefault(dailyScore.getId(), List.of())))
                 .sorted(Comparator.comparing(DailyScoreDetailResponse::getDate).reversed())
                 .toList();
 
         return new ScoreDetailResponse(memberChallenge.getTotalScore(), dailyScores);
     }
 
-    private DailyScoreDetailResponse convertToDailyScoreDetail(DailyScore dailyScore) {
+    private DailyScoreDetailResponse convertToDailyScoreDetail(DailyScore dailyScore, List<ScoreDetail> entries) {
         return DailyScoreDetailResponse.builder()
                 .date(dailyScore.getDate())
-                .entries(dailyScore.getScoreDetails())
+                .entries(entries)
                 .build();
     }
 
@@ -0,0 +1,55 @@
+package com.shinhan.dongibuyeo.domain.challenge.service;
+
+import com.shinhan.dongibuyeo.domain.challenge.dto.MemberChallengeSettlement;
+import com.shinhan.dongibuyeo.domain.challenge.entity.MemberChallenge;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+
+/**
+ * 회원별 정산 평가 병렬 실행기
+ * - 회원마다 외부 거래내역 조회가 필요하므로 전용 스레드 풀(settlementEvaluatorExecutor)에서 동시에 평가
+ * - 평가 결과만 모아 반환하고, 엔티티 반영은 호출 측에서 한 번에 처리
+ */
+@Slf4j
+@Component
+public class SettlementEvaluator {
+
+    private final TaskExecutor executor;
+
+    public SettlementEvaluator(@Qualifier("settlementEvaluatorExecutor") TaskExecutor executor) {
+        this.executor = executor;
+    }
+
+    /**
+     * 회원 챌린지 목록 병렬 평가 메서드
+     * - 입력 순서대로 결과 반환, 하나라도 실패하면 원인 예외 전파 (배치 재시도/건너뛰기 분류용)
+     *
+     * @param memberChallenges 평가 대상 회원 챌린지
+     * @param evaluation       회원 1명 평가 함수
+     */
+    public List<MemberChallengeSettlement> evaluateAll(List<MemberChallenge> memberChallenges, Function<MemberChallenge, MemberChallengeSettlement> evaluation) {
+        List<CompletableFuture<MemberChallengeSettlement>> futures = memberChallenges.stream()
+                .map(memberChallenge -> CompletableFuture.supplyAsync(() -> evaluation.apply(memberChallenge), executor))
+                .toList();
+
+        try {
+            CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+
+        return futures.stream()
+                .map(CompletableFuture::join)
+                .toList();
+    }
+}
@@ -0,0 +1,114 @@
+package com.shinhan.dongibuyeo.domain.chat.cache;
+
+import com.github.f4b6a3.ulid.UlidCreator;
+import com.shinhan.dongibuyeo.domain.chat.dto.response.MessageResponse;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * 채팅방 하나의 최근 메시지 링 버퍼
+ * - 용량을 넘으면 가장 오래된 메시지부터 덮어씀
+ * - complete: 방의 전체 메시지가 버퍼 안에 있는지 여부 (DB로 채우기 전이거나 덮어쓴 적이 있으면 false)
+ */
+class RecentMessageBuffer {
+
+    private final MessageResponse[] ring;
+    private int head;
+    private int size;
+    private boolean complete;
+
+    RecentMessageBuffer(int capacity) {
+        this.ring = new MessageResponse[capacity];
+    }
+
+    /**
+     * 메시지 추가
+     * - ID 발급과 추가를 같은 락 안에서 수행해 버퍼 순서와 ULID 순서를 일치시킴
+     */
+    synchronized MessageResponse append(Function<UUID, MessageResponse> factory) {
+        MessageResponse message = factory.apply(UlidCreator.getMonotonicUlid().toUuid());
+        ring[(head + size) % ring.length] = message;
+        if (size < ring.length) {
+            size++;
+        } else {
+            head = (head + 1) % ring.length;
+            complete = false;
+        }
+        return message;
+    }
+
+    /**
+     * DB에서 읽은 최근 메시지로 버퍼 채우기
+     * - 이미 버퍼에 있는 메시지보다 오래된 것만 앞에 붙임
+     *
+     * @param latest  최신순 메시지 목록
+     * @param hasMore latest 이전에 메시지가 더 있는지 여부
+     */
+    synchronized void warm(List<MessageResponse> latest, boolean hasMore) {
+        UUID oldest = size == 0 ? null : ring[head].getMessageId();
+        List<MessageResponse> merged = new ArrayList<>(ring.length);
+        for (int i = latest.size() - 1; i >= 0; i--) {
+            MessageResponse message = latest.get(i);
+            if (oldest == null || compare(message.getMessageId(), oldest) < 0) {
+                merged.add(message);
+            }
+        }
+        for (int i = 0; i < size; i++) {
+            merged.add(ring[(head + i) % ring.length]);
+        }
+
+        int skip = Math.max(0, merged.size() - ring.length);
+        head = 0;
+        size = merged.size() - skip;
+        for (int i = 0; i < size; i++) {
+            ring[i] = merged.get(skip + i);
+        }
+        complete = !hasMore && skip == 0;
+    }
+
+    /**
+     * 저장에 실패한 메시지 제거 (DB에 없는 메시지를 응답하지 않도록)
+     */
+    synchronized void evict(Set<UUID> messageIds) {
+        int kept = 0;
+        for (int i = 0; i < size; i++) {
+            MessageResponse message = ring[(head + i) % ring.length];
+            if (!messageIds.contains(message.getMessageId())) {
+                ring[(head + kept) % ring.length] = message;
+                kept++;
+            }
+        }
+        for (int i = kept; i < size; i++) {
+            ring[(head + i) % ring.length] = null;
+        }
+        size = kept;
+    }
+
+    /**
+     * 최신 메시지부터 최대 count건 조회 (최신순)
+     * - 버퍼가 count건을 채우지 못하고 방 전체를 담고 있지도 않으면 null
+     */
+    synchronized List<MessageResponse> latest(int count) {
+        if (size < count && !complete) {
+            return null;
+        }
+        int n = Math.min(count, size);
+        List<MessageResponse> messages = new ArrayList<>(n);
+        for (int i = 1; i <= n; i++) {
+            messages.add(ring[(head + size - i) % ring.length]);
+        }
+        return messages;
+    }
+
+    /**
+     * BINARY(16) 정렬과 같은 부호 없는 비교 (UUID.compareTo는 부호 있는 비교)
+     */
+    private static int compare(UUID a, UUID b) {
+        int result = Long.compareUnsigned(a.getMostSignificantBits(), b.getMostSignificantBits());
+        return result != 0 ? result : Long.compareUnsigned(a.getLeastSignificantBits(), b.getLeastSignificantBits());
+    }
+}
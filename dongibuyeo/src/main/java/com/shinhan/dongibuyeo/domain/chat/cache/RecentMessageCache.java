@@ -0,0 +1,103 @@
+package com.shinhan.dongibuyeo.domain.chat.cache;
+
+import com.shinhan.dongibuyeo.domain.chat.dto.response.MessageResponse;
+import com.shinhan.dongibuyeo.domain.chat.entity.Room;
+import com.shinhan.dongibuyeo.domain.chat.repository.ChatRepository;
+import com.shinhan.dongibuyeo.domain.chat.repository.ChatRoomRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * 채팅방별 최근 메시지 캐시
+ * - 방마다 최근 capacity건을 링 버퍼로 보관, 첫 페이지 조회는 DB를 거치지 않음
+ * - 채팅방은 챌린지 타입별로 고정되어 있어 메모리 사용량은 (방 개수 × capacity)로 제한
+ * - 애플리케이션 시작 시 DB에서 방마다 최근 capacity건으로 채움
+ */
+@Slf4j
+@Component
+public class RecentMessageCache {
+
+    @Value("${shinhan.chat.recent.capacity}")
+    private int capacity;
+
+    private final ChatRoomRepository chatRoomRepository;
+    private final ChatRepository chatRepository;
+    private final Map<UUID, RecentMessageBuffer> buffers = new ConcurrentHashMap<>();
+    private final Counter hit;
+    private final Counter miss;
+
+    public RecentMessageCache(ChatRoomRepository chatRoomRepository, ChatRepository chatRepository, MeterRegistry meterRegistry) {
+        this.chatRoomRepository = chatRoomRepository;
+        this.chatRepository = chatRepository;
+        this.hit = meterRegistry.counter("chat.recent.lookup", "result", "hit");
+        this.miss = meterRegistry.counter("chat.recent.lookup", "result", "miss");
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        for (Room room : chatRoomRepository.findAll()) {
+            List<MessageResponse> latest = chatRepository.findLatestMessages(room.getId(), PageRequest.of(0, capacity + 1));
+            warm(room.getId(), latest, capacity);
+            log.info("[RecentMessageCache] room: {}, warmed: {}", room.getName(), Math.min(latest.size(), capacity));
+        }
+    }
+
+    /**
+     * DB에서 읽은 최근 메시지로 버퍼 채우기
+     * - 시작 시 예열 외에도 캐시 미스로 DB를 조회한 경우 그 결과로 채움
+     *
+     * @param latest    최신순 메시지 목록 (requested + 1건까지 조회한 결과)
+     * @param requested 조회한 건수 (latest가 이보다 많으면 이전 메시지가 더 있음)
+     */
+    public void warm(UUID roomId, List<MessageResponse> latest, int requested) {
+        boolean hasMore = latest.size() > requested;
+        int keep = Math.min(capacity, hasMore ? requested : latest.size());
+        buffer(roomId).warm(latest.subList(0, keep), hasMore || keep < latest.size());
+    }
+
+    /**
+     * 새 메시지 추가
+     *
+     * @param factory 발급된 메시지 ID로 응답 생성
+     */
+    public MessageResponse append(UUID roomId, Function<UUID, MessageResponse> factory) {
+        return buffer(roomId).append(factory);
+    }
+
+    /**
+     * 저장에 실패한 메시지를 버퍼에서 제거
+     */
+    public void evict(UUID roomId, Set<UUID> messageIds) {
+        RecentMessageBuffer buffer = buffers.get(roomId);
+        if (buffer != null) {
+            buffer.evict(messageIds);
+        }
+    }
+
+    /**
+     * 최신 메시지 count건 조회 (최신순)
+     * - 버퍼로 응답할 수 없으면 null (호출 측에서 DB 조회)
+     */
+    public List<MessageResponse> latest(UUID roomId, int count) {
+        List<MessageResponse> messages = count <= capacity ? buffer(roomId).latest(count) : null;
+        (messages == null ? miss : hit).increment();
+        return messages;
+    }
+
+    private RecentMessageBuffer buffer(UUID roomId) {
+        return buffers.computeIfAbsent(roomId, id -> new RecentMessageBuffer(capacity));
+    }
+}
@@ -1,6 +1,7 @@
 package com.shinhan.dongibuyeo.domain.chat.controller;
 
 
+import com.shinhan.dongibuyeo.domain.chat.dto.response.MessageHistoryResponse;
 import com.shinhan.dongibuyeo.domain.chat.dto.response.RoomDetailResponse;
 import com.shinhan.dongibuyeo.domain.chat.service.ChatService;
 
@@ -8,6 +9,8 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.messaging.handler.annotation.MessageMapping;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.UUID;
+
 @RestController
 @RequestMapping("chat")
 public class ChatController {
@@ -22,6 +25,13 @@ public class ChatController {
         return ResponseEntity.ok(chatService.getRoomDetail(roomName));
     }
 
+    @GetMapping("/{roomName}/messages")
+    public ResponseEntity<MessageHistoryResponse> getMessageHistory(@PathVariable("roomName") String roomName,
+                                                                    @RequestParam(required = false) UUID before,
+                                                                    @RequestParam(required = false) Integer limit) {
+        return ResponseEntity.ok(chatService.getMessageHistory(roomName, before, limit));
+    }
+
     @PostMapping("/makeRoom")
     public ResponseEntity<Void> makeRoom() {
         chatService.makeRoom();
@@ -0,0 +1,17 @@
+package com.shinhan.dongibuyeo.domain.chat.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class MessageHistoryResponse {
+    private List<MessageResponse> messages;
+    private UUID nextCursor;
+    private boolean hasNext;
+}
@@ -7,12 +7,15 @@ import com.shinhan.dongibuyeo.domain.chat.entity.Message;
 import com.shinhan.dongibuyeo.domain.chat.entity.Room;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
+import java.util.UUID;
+
 @Component
 public class ChatRoomMapper {
-    public RoomDetailResponse getRoomDetail(Room room) {
+    public RoomDetailResponse getRoomDetail(UUID roomId, String roomName, List<MessageResponse> messages) {
         return new RoomDetailResponse(
-                toSimpleResponse(room),
-                room.getMessages().stream().map(this::toMessageResponse).toList()
+                new RoomResponse(roomId, roomName),
+                messages
         );
     }
 
@@ -25,8 +28,9 @@ public class ChatRoomMapper {
 
     public MessageResponse toMessageResponse(Message message) {
         return new MessageResponse(
+                message.getId(),
                 message.getMember().getId(),
-                message.getMember().getName(),
+                message.getMember().getNickname(),
                 message.getMessage(),
                 message.getMember().getProfileImage(),
                 message.getSendAt()
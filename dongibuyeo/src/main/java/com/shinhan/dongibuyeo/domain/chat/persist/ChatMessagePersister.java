@@ -0,0 +1,187 @@
+package com.shinhan.dongibuyeo.domain.chat.persist;
+
+import com.shinhan.dongibuyeo.domain.chat.cache.RecentMessageCache;
+import com.shinhan.dongibuyeo.domain.chat.repository.ChatJdbcRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.stream.Collectors;
+
+/**
+ * 채팅 메시지 지연 저장(write-behind)
+ * - 수신 스레드는 큐에 넣기만 하고, 저장 스레드가 batch-size 건 또는 flush-interval-ms 마다 JDBC batch insert
+ * - 큐가 가득 차면 offer-timeout-ms 동안 수신 스레드를 대기시키고, 그래도 자리가 없으면 호출 스레드에서 바로 저장
+ * - 종료 시 큐에 남은 메시지를 모두 저장한 뒤 종료, 종료 이후 요청은 호출 스레드에서 바로 저장
+ * - batch 저장이 실패하면 한 건씩 다시 저장해 문제가 된 메시지만 버림
+ * - 저장하지 못한 메시지(실패 또는 회원 없음)는 ID를 기록하고 최근 메시지 캐시에서 제거
+ */
+@Slf4j
+@Component
+public class ChatMessagePersister {
+
+    @Value("${shinhan.chat.persist.queue-capacity}")
+    private int queueCapacity;
+
+    @Value("${shinhan.chat.persist.batch-size}")
+    private int batchSize;
+
+    @Value("${shinhan.chat.persist.flush-interval-ms}")
+    private long flushIntervalMs;
+
+    @Value("${shinhan.chat.persist.offer-timeout-ms}")
+    private long offerTimeoutMs;
+
+    private final ChatJdbcRepository chatJdbcRepository;
+    private final RecentMessageCache recentMessageCache;
+    private final MeterRegistry meterRegistry;
+    private final Counter flushed;
+    private final Counter inline;
+    private final Counter dropped;
+    private BlockingQueue<PendingMessage> queue;
+    private ExecutorService executor;
+    private volatile boolean running;
+
+    public ChatMessagePersister(ChatJdbcRepository chatJdbcRepository, RecentMessageCache recentMessageCache, MeterRegistry meterRegistry) {
+        this.chatJdbcRepository = chatJdbcRepository;
+        this.recentMessageCache = recentMessageCache;
+        this.meterRegistry = meterRegistry;
+        this.flushed = meterRegistry.counter("chat.persist.messages", "result", "flushed");
+        this.inline = meterRegistry.counter("chat.persist.messages", "result", "inline");
+        this.dropped = meterRegistry.counter("chat.persist.messages", "result", "failed");
+    }
+
+    @PostConstruct
+    public void start() {
+        queue = new ArrayBlockingQueue<>(queueCapacity);
+        meterRegistry.gauge("chat.persist.queue.depth", queue, BlockingQueue::size);
+
+        running = true;
+        executor = Executors.newSingleThreadExecutor(runnable -> new Thread(runnable, "chat-persist"));
+        executor.submit(this::drain);
+    }
+
+    /**
+     * 채팅 메시지 저장 요청
+     */
+    public void enqueue(PendingMessage message) {
+        if (!running) {
+            persistInline(message);
+            return;
+        }
+
+        try {
+            if (queue.offer(message, offerTimeoutMs, TimeUnit.MILLISECONDS)) {
+                // 넣는 사이 종료된 경우 저장 스레드가 가져가지 않았으면 직접 저장
+                if (!running && queue.remove(message)) {
+                    persistInline(message);
+                }
+                return;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        log.warn("[ChatMessagePersister] queue full, persisting on caller thread. messageId: {}", message.id());
+        persistInline(message);
+    }
+
+    private void persistInline(PendingMessage message) {
+        inline.increment();
+        flush(List.of(message));
+    }
+
+    private void drain() {
+        List<PendingMessage> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                PendingMessage first = queue.poll(flushIntervalMs, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+
+                // 첫 메시지 이후 flush-interval-ms 동안 batch-size 까지 모아서 저장
+                long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(flushIntervalMs);
+                while (batch.size() < batchSize) {
+                    queue.drainTo(batch, batchSize - batch.size());
+                    long remaining = deadline - System.nanoTime();
+                    if (batch.size() >= batchSize || remaining <= 0 || !running) {
+                        break;
+                    }
+                    PendingMessage next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+
+                flush(batch);
+            } catch (InterruptedException e) {
+                flush(batch);
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void flush(List<PendingMessage> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        List<PendingMessage> notPersisted = new ArrayList<>();
+        try {
+            notPersisted.addAll(chatJdbcRepository.batchInsert(batch));
+        } catch (Exception e) {
+            log.warn("[ChatMessagePersister] failed to persist {} messages, retrying one by one", batch.size(), e);
+            notPersisted.clear();
+            batch.forEach(message -> notPersisted.addAll(persistEach(message)));
+        }
+
+        flushed.increment(batch.size() - notPersisted.size());
+        if (notPersisted.isEmpty()) {
+            return;
+        }
+        dropped.increment(notPersisted.size());
+        log.error("[ChatMessagePersister] {} messages not persisted, messageIds: {}",
+                notPersisted.size(), notPersisted.stream().map(PendingMessage::id).toList());
+        notPersisted.stream()
+                .collect(Collectors.groupingBy(PendingMessage::roomId, Collectors.mapping(PendingMessage::id, Collectors.toSet())))
+                .forEach(recentMessageCache::evict);
+    }
+
+    /**
+     * 한 건 저장
+     * - 자동 커밋으로 실행된 batch는 실패 전까지의 행이 이미 저장됐을 수 있어 ID 중복은 저장된 것으로 간주
+     */
+    private List<PendingMessage> persistEach(PendingMessage message) {
+        try {
+            return chatJdbcRepository.batchInsert(List.of(message));
+        } catch (DuplicateKeyException e) {
+            return List.of();
+        } catch (Exception e) {
+            log.error("[ChatMessagePersister] failed to persist message. messageId: {}", message.id(), e);
+            return List.of(message);
+        }
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        executor.shutdown();
+        if (!executor.awaitTermination(30, TimeUnit.SECONDS)) {
+            log.warn("[ChatMessagePersister] shutdown timed out, remaining: {}", queue.size());
+            executor.shutdownNow();
+        }
+    }
+}
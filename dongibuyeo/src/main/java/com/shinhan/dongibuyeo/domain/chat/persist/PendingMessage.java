@@ -0,0 +1,18 @@
+package com.shinhan.dongibuyeo.domain.chat.persist;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 저장 대기 중인 채팅 메시지
+ * - ID는 수신 시점에 발급해 도착 순서대로 ULID 정렬
+ */
+public record PendingMessage(
+        UUID id,
+        UUID roomId,
+        UUID memberId,
+        String message,
+        String sendAt,
+        LocalDateTime receivedAt
+) {
+}
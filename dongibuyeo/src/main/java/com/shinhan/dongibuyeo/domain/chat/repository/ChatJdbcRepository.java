@@ -0,0 +1,62 @@
+package com.shinhan.dongibuyeo.domain.chat.repository;
+
+import com.shinhan.dongibuyeo.domain.chat.persist.PendingMessage;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static com.shinhan.dongibuyeo.global.util.UuidBytes.toBytes;
+
+/**
+ * 채팅 메시지 대량 적재용 JDBC 저장소
+ * - 존재하지 않는 회원의 메시지는 INSERT ... SELECT 조건으로 건너뛰어 배치 전체가 실패하지 않도록 처리
+ * - 건너뛴 메시지는 행 수 0으로 판별해 돌려줌 (드라이버가 행 수를 알려주지 않은 경우는 저장된 것으로 간주)
+ */
+@Repository
+public class ChatJdbcRepository {
+
+    private static final String INSERT_SQL = "INSERT INTO message (id, room_id, member_id, message, send_at, created_at, updated_at) " +
+            "SELECT ?, ?, m.id, ?, ?, ?, ? FROM member m WHERE m.id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public ChatJdbcRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * @return 회원이 없어 저장되지 않은 메시지
+     */
+    public List<PendingMessage> batchInsert(List<PendingMessage> messages) {
+        if (messages.isEmpty()) {
+            return List.of();
+        }
+
+        int[][] rowCounts = jdbcTemplate.batchUpdate(INSERT_SQL, messages, messages.size(), (ps, message) -> {
+            Timestamp receivedAt = Timestamp.valueOf(message.receivedAt());
+            ps.setBytes(1, toBytes(message.id()));
+            ps.setBytes(2, toBytes(message.roomId()));
+            ps.setString(3, message.message());
+            ps.setString(4, message.sendAt());
+            ps.setTimestamp(5, receivedAt);
+            ps.setTimestamp(6, receivedAt);
+            ps.setBytes(7, toBytes(message.memberId()));
+        });
+
+        List<PendingMessage> skipped = new ArrayList<>();
+        int index = 0;
+        for (int[] counts : rowCounts) {
+            for (int count : counts) {
+                if (count == 0) {
+                    skipped.add(messages.get(index));
+                }
+                index++;
+            }
+        }
+        return skipped;
+    }
+}
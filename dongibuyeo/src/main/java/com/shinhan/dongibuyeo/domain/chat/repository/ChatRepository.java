@@ -1,11 +1,38 @@
 package com.shinhan.dongibuyeo.domain.chat.repository;
 
 
+import com.shinhan.dongibuyeo.domain.chat.dto.response.MessageResponse;
 import com.shinhan.dongibuyeo.domain.chat.entity.Message;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.List;
 import java.util.UUID;
 
 public interface ChatRepository extends JpaRepository<Message, UUID> {
 
+    /**
+     * 채팅방 최신 메시지 조회 (ULID 역순)
+     * - 작성자 닉네임, 프로필 이미지를 같은 쿼리에서 조인
+     */
+    @Query("SELECT new com.shinhan.dongibuyeo.domain.chat.dto.response.MessageResponse(msg.id, m.id, m.nickname, msg.message, m.profileImage, msg.sendAt) " +
+            "FROM Message msg " +
+            "JOIN msg.member m " +
+            "WHERE msg.room.id = :roomId " +
+            "ORDER BY msg.id DESC")
+    List<MessageResponse> findLatestMessages(@Param("roomId") UUID roomId, Pageable pageable);
+
+    /**
+     * 커서 이전 메시지 조회 (ULID 역순)
+     * - (room_id, id) 인덱스 범위 탐색, OFFSET 없이 커서 기준으로 이어서 조회
+     */
+    @Query("SELECT new com.shinhan.dongibuyeo.domain.chat.dto.response.MessageResponse(msg.id, m.id, m.nickname, msg.message, m.profileImage, msg.sendAt) " +
+            "FROM Message msg " +
+            "JOIN msg.member m " +
+            "WHERE msg.room.id = :roomId " +
+            "AND msg.id < :before " +
+            "ORDER BY msg.id DESC")
+    List<MessageResponse> findMessagesBefore(@Param("roomId") UUID roomId, @Param("before") UUID before, Pageable pageable);
 }
@@ -1,45 +1,134 @@
 package com.shinhan.dongibuyeo.domain.chat.service;
 
+import com.shinhan.dongibuyeo.domain.chat.cache.RecentMessageCache;
 import com.shinhan.dongibuyeo.domain.chat.dto.request.MessageRequest;
+import com.shinhan.dongibuyeo.domain.chat.dto.response.MessageHistoryResponse;
 import com.shinhan.dongibuyeo.domain.chat.dto.response.MessageResponse;
 import com.shinhan.dongibuyeo.domain.chat.dto.response.RoomDetailResponse;
-import com.shinhan.dongibuyeo.domain.chat.entity.Message;
 import com.shinhan.dongibuyeo.domain.chat.entity.Room;
 import com.shinhan.dongibuyeo.domain.chat.mapper.ChatRoomMapper;
+import com.shinhan.dongibuyeo.domain.chat.persist.ChatMessagePersister;
+import com.shinhan.dongibuyeo.domain.chat.persist.PendingMessage;
+import com.shinhan.dongibuyeo.domain.chat.repository.ChatRepository;
 import com.shinhan.dongibuyeo.domain.chat.repository.ChatRoomRepository;
-import com.shinhan.dongibuyeo.domain.member.entity.Member;
-import com.shinhan.dongibuyeo.domain.member.service.MemberService;
 import jakarta.persistence.EntityNotFoundException;
 import jakarta.transaction.Transactional;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
 @Service
 public class ChatService {
-    private final MemberService memberService;
+
+    @Value("${shinhan.chat.history.default-limit}")
+    private int defaultHistoryLimit;
+
+    @Value("${shinhan.chat.history.max-limit}")
+    private int maxHistoryLimit;
+
     private final ChatRoomRepository chatRoomRepository;
+    private final ChatRepository chatRepository;
     private final ChatRoomMapper mapper;
+    private final ChatMessagePersister chatMessagePersister;
+    private final RecentMessageCache recentMessageCache;
+    private final Map<String, UUID> roomIds = new ConcurrentHashMap<>();
 
-    public ChatService(MemberService memberService, ChatRoomRepository chatRoomRepository, ChatRoomMapper mapper) {
-        this.memberService = memberService;
+    public ChatService(ChatRoomRepository chatRoomRepository, ChatRepository chatRepository, ChatRoomMapper mapper, ChatMessagePersister chatMessagePersister, RecentMessageCache recentMessageCache) {
         this.chatRoomRepository = chatRoomRepository;
+        this.chatRepository = chatRepository;
         this.mapper = mapper;
+        this.chatMessagePersister = chatMessagePersister;
+        this.recentMessageCache = recentMessageCache;
     }
 
     public Room getRoomByRoomName(String roomName) {
-        return chatRoomRepository.findByNameAndChats(roomName).orElseThrow(EntityNotFoundException::new);
+        return chatRoomRepository.findByName(roomName).orElseThrow(EntityNotFoundException::new);
     }
 
+    /**
+     * 채팅방 ID 조회
+     * - 채팅방은 생성 후 바뀌지 않으므로 방 이름 → ID를 캐싱
+     */
+    public UUID getRoomId(String roomName) {
+        return roomIds.computeIfAbsent(roomName, name -> getRoomByRoomName(name).getId());
+    }
+
+    /**
+     * 채팅방 정보와 최근 메시지 한 페이지 조회
+     * - 이전 메시지는 getMessageHistory로 커서를 넘겨 이어서 조회
+     */
     public RoomDetailResponse getRoomDetail(String roomName) {
-        return mapper.getRoomDetail(getRoomByRoomName(roomName));
+        UUID roomId = getRoomId(roomName);
+        return mapper.getRoomDetail(roomId, roomName, getMessageHistory(roomId, null, defaultHistoryLimit).getMessages());
     }
 
-    @Transactional
-    public MessageResponse sendMessage(MessageRequest messageRequest) {
-        Member member = memberService.getMemberById(messageRequest.getMemberId());
-        Room room = chatRoomRepository.findByName(messageRequest.getRoomName()).orElseThrow(EntityNotFoundException::new);
-        Message message = new Message(messageRequest.getMessage(),member,room,messageRequest.getSendAt());
-        room.getMessages().add(message);
-        return mapper.toMessageResponse(message);
+    public MessageHistoryResponse getMessageHistory(String roomName, UUID before, Integer limit) {
+        return getMessageHistory(getRoomId(roomName), before, limit);
+    }
+
+    /**
+     * 채팅 메시지 커서 페이지 조회
+     * - ULID 메시지 ID 역순으로 limit + 1건을 읽어 다음 페이지 존재 여부 판단
+     * - 첫 페이지는 최근 메시지 캐시에서 응답, 캐시로 부족하거나 커서 이후 페이지는 DB 조회
+     * - 응답은 시간순(오래된 → 최신), nextCursor는 페이지에서 가장 오래된 메시지 ID
+     *
+     * @param before 이 ID보다 이전 메시지만 조회 (null이면 최신부터)
+     * @param limit  페이지 크기 (null이면 기본값, 최대값 초과 시 최대값)
+     */
+    private MessageHistoryResponse getMessageHistory(UUID roomId, UUID before, Integer limit) {
+        int size = limit == null || limit <= 0 ? defaultHistoryLimit : Math.min(limit, maxHistoryLimit);
+
+        List<MessageResponse> rows;
+        if (before == null) {
+            rows = recentMessageCache.latest(roomId, size + 1);
+            if (rows == null) {
+                rows = chatRepository.findLatestMessages(roomId, PageRequest.of(0, size + 1));
+                recentMessageCache.warm(roomId, rows, size);
+            }
+        } else {
+            rows = chatRepository.findMessagesBefore(roomId, before, PageRequest.of(0, size + 1));
+        }
+
+        boolean hasNext = rows.size() > size;
+        List<MessageResponse> messages = new ArrayList<>(hasNext ? rows.subList(0, size) : rows);
+        UUID nextCursor = hasNext ? messages.get(messages.size() - 1).getMessageId() : null;
+        Collections.reverse(messages);
+
+        return new MessageHistoryResponse(messages, nextCursor, hasNext);
+    }
+
+    /**
+     * 채팅 메시지 저장 요청
+     * - 브로드캐스트 이후 수신 스레드에서 호출되므로 저장은 ChatMessagePersister에 위임
+     * - 최근 메시지 캐시에는 바로 추가 (닉네임, 이미지는 브로드캐스트된 요청 값 사용)
+     */
+    public void sendMessage(MessageRequest messageRequest) {
+        UUID roomId = getRoomId(messageRequest.getRoomName());
+        MessageResponse response = recentMessageCache.append(roomId, messageId -> new MessageResponse(
+                messageId,
+                messageRequest.getMemberId(),
+                messageRequest.getNickName(),
+                messageRequest.getMessage(),
+                messageRequest.getImage(),
+                messageRequest.getSendAt()
+        ));
+
+        chatMessagePersister.enqueue(new PendingMessage(
+                response.getMessageId(),
+                roomId,
+                messageRequest.getMemberId(),
+                messageRequest.getMessage(),
+                messageRequest.getSendAt(),
+                LocalDateTime.now()
+        ));
     }
 
     @Transactional
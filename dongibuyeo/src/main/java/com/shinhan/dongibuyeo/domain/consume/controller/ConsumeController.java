@@ -3,14 +3,18 @@ package com.shinhan.dongibuyeo.domain.consume.controller;
 import com.shinhan.dongibuyeo.domain.account.dto.response.TransactionHistory;
 import com.shinhan.dongibuyeo.domain.consume.dto.request.ConsumptionRequest;
 import com.shinhan.dongibuyeo.domain.consume.dto.request.MakeConsumptionRequest;
+import com.shinhan.dongibuyeo.domain.consume.dto.response.BulkConsumptionResponse;
 import com.shinhan.dongibuyeo.domain.consume.dto.response.ConsumptionResponse;
 import com.shinhan.dongibuyeo.domain.consume.service.ConsumeService;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.io.IOException;
 import java.util.List;
 
 @RestController
@@ -38,4 +42,9 @@ public class ConsumeController {
         consumeService.addConsumption(request);
         return ResponseEntity.noContent().build();
     }
+
+    @PostMapping(value = "/make/bulk", consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public ResponseEntity<BulkConsumptionResponse> makeConsumptions(HttpServletRequest request) throws IOException {
+        return ResponseEntity.ok(consumeService.addConsumptions(request.getInputStream()));
+    }
 }
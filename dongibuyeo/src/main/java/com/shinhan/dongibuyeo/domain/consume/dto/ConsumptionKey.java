@@ -0,0 +1,6 @@
+package com.shinhan.dongibuyeo.domain.consume.dto;
+
+import java.util.UUID;
+
+public record ConsumptionKey(UUID memberId, String transactionUniqueNo) {
+}
@@ -0,0 +1,24 @@
+package com.shinhan.dongibuyeo.domain.consume.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkConsumptionResponse {
+    private long received;
+    private long inserted;
+    private long duplicated;
+    private long rejected;
+
+    public BulkConsumptionResponse merge(BulkConsumptionResponse other) {
+        return new BulkConsumptionResponse(
+                received + other.received,
+                inserted + other.inserted,
+                duplicated + other.duplicated,
+                rejected + other.rejected
+        );
+    }
+}
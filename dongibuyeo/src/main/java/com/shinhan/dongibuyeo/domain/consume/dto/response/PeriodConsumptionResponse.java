@@ -0,0 +1,13 @@
+package com.shinhan.dongibuyeo.domain.consume.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class PeriodConsumptionResponse {
+    private long previousPeriodConsumption;
+    private long currentPeriodConsumption;
+}
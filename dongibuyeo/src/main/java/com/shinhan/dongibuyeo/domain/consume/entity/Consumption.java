@@ -3,18 +3,24 @@ package com.shinhan.dongibuyeo.domain.consume.entity;
 import com.github.f4b6a3.ulid.UlidCreator;
 import com.shinhan.dongibuyeo.domain.member.entity.Member;
 import com.shinhan.dongibuyeo.global.entity.BaseEntity;
+import com.shinhan.dongibuyeo.global.entity.TransferType;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import org.hibernate.annotations.SQLRestriction;
 
+import java.time.LocalDateTime;
 import java.util.UUID;
 
 @Entity
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @SQLRestriction("deleted_at is null")
+@Table(
+        uniqueConstraints = @UniqueConstraint(name = "uk_consumption_member_unique_no", columnNames = {"member_id", "transaction_unique_no"}),
+        indexes = @Index(name = "idx_consumption_member_type_date", columnList = "member_id, transfer_type, transacted_at")
+)
 public class Consumption extends BaseEntity {
     @Id
     @Column(columnDefinition = "BINARY(16)")
@@ -25,8 +31,11 @@ public class Consumption extends BaseEntity {
     private Member member;
 
     private String transactionUniqueNo;
-    private String transactionDate;
-    private String transactionTime;
+    private LocalDateTime transactedAt;
+
+    @Enumerated(EnumType.STRING)
+    private TransferType transferType;
+
     private String transactionType;
     private String transactionTypeName;
     private String transactionAccountNo;
@@ -35,11 +44,11 @@ public class Consumption extends BaseEntity {
     private String transactionSummary;
     private String transactionMemo;
 
-    public Consumption(Member member, String transactionUniqueNo, String transactionDate, String transactionTime, String transactionType, String transactionTypeName, String transactionAccountNo, Long transactionBalance, Long transactionAfterBalance, String transactionSummary, String transactionMemo) {
+    public Consumption(Member member, String transactionUniqueNo, LocalDateTime transactedAt, String transactionType, String transactionTypeName, String transactionAccountNo, Long transactionBalance, Long transactionAfterBalance, String transactionSummary, String transactionMemo) {
         this.member = member;
         this.transactionUniqueNo = transactionUniqueNo;
-        this.transactionDate = transactionDate;
-        this.transactionTime = transactionTime;
+        this.transactedAt = transactedAt;
+        this.transferType = TransferType.fromSummary(transactionSummary).orElse(null);
         this.transactionType = transactionType;
         this.transactionTypeName = transactionTypeName;
         this.transactionAccountNo = transactionAccountNo;
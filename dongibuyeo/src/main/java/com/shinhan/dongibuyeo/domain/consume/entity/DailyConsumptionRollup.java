@@ -0,0 +1,52 @@
+package com.shinhan.dongibuyeo.domain.consume.entity;
+
+import com.github.f4b6a3.ulid.UlidCreator;
+import com.shinhan.dongibuyeo.domain.member.entity.Member;
+import com.shinhan.dongibuyeo.global.entity.BaseEntity;
+import com.shinhan.dongibuyeo.global.entity.TransferType;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * 회원의 일자별, 이체 타입별 소비 합계
+ * - 원장 수집, 소비내역 등록 시점에 누적
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(
+        name = "daily_consumption_rollup",
+        uniqueConstraints = @UniqueConstraint(name = "uk_rollup_member_type_date", columnNames = {"member_id", "transfer_type", "consumed_on"})
+)
+public class DailyConsumptionRollup extends BaseEntity {
+
+    @Id
+    @Column(columnDefinition = "BINARY(16)")
+    private UUID id = UlidCreator.getMonotonicUlid().toUuid();
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "member_id")
+    private Member member;
+
+    @Enumerated(EnumType.STRING)
+    private TransferType transferType;
+
+    private LocalDate consumedOn;
+
+    private long amount;
+
+    public DailyConsumptionRollup(Member member, TransferType transferType, LocalDate consumedOn) {
+        this.member = member;
+        this.transferType = transferType;
+        this.consumedOn = consumedOn;
+    }
+
+    public void add(long amount) {
+        this.amount += amount;
+    }
+}
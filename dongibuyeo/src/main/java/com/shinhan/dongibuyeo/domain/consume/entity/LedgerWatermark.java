@@ -0,0 +1,71 @@
+package com.shinhan.dongibuyeo.domain.consume.entity;
+
+import com.github.f4b6a3.ulid.UlidCreator;
+import com.shinhan.dongibuyeo.domain.member.entity.Member;
+import com.shinhan.dongibuyeo.global.entity.BaseEntity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 회원 계좌별 원장 동기화 워터마크
+ * - syncedFrom ~ syncedTo 구간은 원장에 수집 완료된 상태
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(
+        name = "ledger_watermark",
+        uniqueConstraints = @UniqueConstraint(name = "uk_watermark_member_account", columnNames = {"member_id", "account_no"})
+)
+public class LedgerWatermark extends BaseEntity {
+
+    @Id
+    @Column(columnDefinition = "BINARY(16)")
+    private UUID id = UlidCreator.getMonotonicUlid().toUuid();
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "member_id")
+    private Member member;
+
+    private String accountNo;
+
+    private LocalDate syncedFrom;
+    private LocalDate syncedTo;
+
+    private String lastTransactionUniqueNo;
+    private LocalDateTime lastTransactedAt;
+
+    public LedgerWatermark(Member member, String accountNo) {
+        this.member = member;
+        this.accountNo = accountNo;
+    }
+
+    public boolean isInitialized() {
+        return syncedFrom != null && syncedTo != null;
+    }
+
+    public void extendFrom(LocalDate syncedFrom) {
+        if (this.syncedFrom == null || syncedFrom.isBefore(this.syncedFrom)) {
+            this.syncedFrom = syncedFrom;
+        }
+    }
+
+    public void advanceTo(LocalDate syncedTo) {
+        if (this.syncedTo == null || syncedTo.isAfter(this.syncedTo)) {
+            this.syncedTo = syncedTo;
+        }
+    }
+
+    public void updateLastTransaction(TransactionLedger ledger) {
+        if (lastTransactedAt == null || ledger.getTransactedAt().isAfter(lastTransactedAt)) {
+            this.lastTransactedAt = ledger.getTransactedAt();
+            this.lastTransactionUniqueNo = ledger.getTransactionUniqueNo();
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.shinhan.dongibuyeo.domain.consume.entity;
+
+import com.github.f4b6a3.ulid.UlidCreator;
+import com.shinhan.dongibuyeo.domain.member.entity.Member;
+import com.shinhan.dongibuyeo.global.entity.BaseEntity;
+import com.shinhan.dongibuyeo.global.entity.TransferType;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 금융 API 거래내역의 로컬 원장
+ * - 계좌번호 + 거래고유번호 단위로 한 번만 저장
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(
+        name = "transaction_ledger",
+        uniqueConstraints = @UniqueConstraint(name = "uk_ledger_account_unique_no", columnNames = {"account_no", "transaction_unique_no"}),
+        indexes = @Index(name = "idx_ledger_member_type_date", columnList = "member_id, transfer_type, transacted_at")
+)
+public class TransactionLedger extends BaseEntity {
+
+    @Id
+    @Column(columnDefinition = "BINARY(16)")
+    private UUID id = UlidCreator.getMonotonicUlid().toUuid();
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "member_id")
+    private Member member;
+
+    private String accountNo;
+    private String transactionUniqueNo;
+    private LocalDateTime transactedAt;
+
+    @Enumerated(EnumType.STRING)
+    private TransferType transferType;
+
+    private String transactionType;
+    private String transactionTypeName;
+    private String transactionAccountNo;
+    private Long transactionBalance;
+    private Long transactionAfterBalance;
+    private Long amount;
+    private String transactionSummary;
+    private String transactionMemo;
+
+    @Builder
+    public TransactionLedger(Member member, String accountNo, String transactionUniqueNo, LocalDateTime transactedAt, String transactionType, String transactionTypeName, String transactionAccountNo, Long transactionBalance, Long transactionAfterBalance, String transactionSummary, String transactionMemo) {
+        this.member = member;
+        this.accountNo = accountNo;
+        this.transactionUniqueNo = transactionUniqueNo;
+        this.transactedAt = transactedAt;
+        this.transferType = TransferType.fromSummary(transactionSummary).orElse(null);
+        this.transactionType = transactionType;
+        this.transactionTypeName = transactionTypeName;
+        this.transactionAccountNo = transactionAccountNo;
+        this.transactionBalance = transactionBalance;
+        this.transactionAfterBalance = transactionAfterBalance;
+        this.amount = Math.abs(transactionAfterBalance - transactionBalance);
+        this.transactionSummary = transactionSummary;
+        this.transactionMemo = transactionMemo;
+    }
+}
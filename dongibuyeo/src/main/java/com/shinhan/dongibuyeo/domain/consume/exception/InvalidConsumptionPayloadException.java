@@ -0,0 +1,32 @@
+package com.shinhan.dongibuyeo.domain.consume.exception;
+
+import com.shinhan.dongibuyeo.global.exception.BadInputException;
+
+import java.util.Map;
+
+public class InvalidConsumptionPayloadException extends BadInputException {
+
+    public InvalidConsumptionPayloadException() {
+        super(
+                "INVALID_CONSUMPTION_PAYLOAD_01",
+                "소비내역 요청 형식이 올바르지 않습니다."
+        );
+    }
+
+    /**
+     * @param committed    이미 커밋된 청크까지 읽은 건수 (재전송 시작 위치)
+     * @param inserted     커밋된 청크에서 실제 저장된 건수
+     * @param failedOffset 형식 오류가 난 레코드 위치 (0부터)
+     */
+    public InvalidConsumptionPayloadException(long committed, long inserted, long failedOffset) {
+        super(
+                "INVALID_CONSUMPTION_PAYLOAD_01",
+                "소비내역 요청 형식이 올바르지 않습니다.",
+                Map.of(
+                        "committed", String.valueOf(committed),
+                        "inserted", String.valueOf(inserted),
+                        "failedOffset", String.valueOf(failedOffset)
+                )
+        );
+    }
+}
@@ -0,0 +1,53 @@
+package com.shinhan.dongibuyeo.domain.consume.repository;
+
+import com.shinhan.dongibuyeo.domain.consume.entity.Consumption;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static com.shinhan.dongibuyeo.global.util.UuidBytes.toBytes;
+
+/**
+ * 소비내역 대량 적재용 JDBC 저장소
+ * - 영속성 컨텍스트를 거치지 않고 batch insert
+ */
+@Repository
+public class ConsumptionJdbcRepository {
+
+    private static final String INSERT_SQL = "INSERT INTO consumption (" +
+            "id, member_id, transaction_unique_no, transacted_at, transfer_type, transaction_type, transaction_type_name, " +
+            "transaction_account_no, transaction_balance, transaction_after_balance, transaction_summary, transaction_memo, " +
+            "created_at, updated_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public ConsumptionJdbcRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public void batchInsert(List<Consumption> consumptions, int batchSize) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        jdbcTemplate.batchUpdate(INSERT_SQL, consumptions, batchSize, (ps, consumption) -> {
+            ps.setBytes(1, toBytes(consumption.getId()));
+            ps.setBytes(2, toBytes(consumption.getMember().getId()));
+            ps.setString(3, consumption.getTransactionUniqueNo());
+            ps.setTimestamp(4, Timestamp.valueOf(consumption.getTransactedAt()));
+            ps.setString(5, consumption.getTransferType() == null ? null : consumption.getTransferType().name());
+            ps.setString(6, consumption.getTransactionType());
+            ps.setString(7, consumption.getTransactionTypeName());
+            ps.setString(8, consumption.getTransactionAccountNo());
+            ps.setObject(9, consumption.getTransactionBalance());
+            ps.setObject(10, consumption.getTransactionAfterBalance());
+            ps.setString(11, consumption.getTransactionSummary());
+            ps.setString(12, consumption.getTransactionMemo());
+            ps.setTimestamp(13, now);
+            ps.setTimestamp(14, now);
+        });
+    }
+}
@@ -1,10 +1,44 @@
 package com.shinhan.dongibuyeo.domain.consume.repository;
 
+import com.shinhan.dongibuyeo.domain.consume.dto.ConsumptionKey;
 import com.shinhan.dongibuyeo.domain.consume.entity.Consumption;
+import com.shinhan.dongibuyeo.global.entity.TransferType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.UUID;
 
 public interface ConsumptionRepository extends JpaRepository<Consumption, UUID> {
 
+    @Query("SELECT c " +
+            "FROM Consumption c " +
+            "WHERE c.member.id = :memberId " +
+            "AND c.transferType = :transferType " +
+            "AND c.transactedAt BETWEEN :startAt AND :endAt " +
+            "ORDER BY c.transactedAt DESC")
+    List<Consumption> findByMemberAndTypeBetween(@Param("memberId") UUID memberId,
+                                                 @Param("transferType") TransferType transferType,
+                                                 @Param("startAt") LocalDateTime startAt,
+                                                 @Param("endAt") LocalDateTime endAt);
+
+    @Query("SELECT COALESCE(SUM(ABS(c.transactionAfterBalance - c.transactionBalance)), 0) " +
+            "FROM Consumption c " +
+            "WHERE c.member.id = :memberId " +
+            "AND c.transferType = :transferType " +
+            "AND c.transactedAt BETWEEN :startAt AND :endAt")
+    Long sumAmount(@Param("memberId") UUID memberId,
+                   @Param("transferType") TransferType transferType,
+                   @Param("startAt") LocalDateTime startAt,
+                   @Param("endAt") LocalDateTime endAt);
+
+    @Query("SELECT new com.shinhan.dongibuyeo.domain.consume.dto.ConsumptionKey(c.member.id, c.transactionUniqueNo) " +
+            "FROM Consumption c " +
+            "WHERE c.member.id IN :memberIds " +
+            "AND c.transactionUniqueNo IN :transactionUniqueNos")
+    List<ConsumptionKey> findExistingKeys(@Param("memberIds") Collection<UUID> memberIds,
+                                          @Param("transactionUniqueNos") Collection<String> transactionUniqueNos);
 }
@@ -0,0 +1,35 @@
+package com.shinhan.dongibuyeo.domain.consume.repository;
+
+import com.shinhan.dongibuyeo.domain.consume.entity.DailyConsumptionRollup;
+import com.shinhan.dongibuyeo.global.entity.TransferType;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+public interface DailyConsumptionRollupRepository extends JpaRepository<DailyConsumptionRollup, UUID> {
+
+    @Query("SELECT COALESCE(SUM(r.amount), 0) " +
+            "FROM DailyConsumptionRollup r " +
+            "WHERE r.member.id = :memberId " +
+            "AND r.transferType = :transferType " +
+            "AND r.consumedOn BETWEEN :startDate AND :endDate")
+    Long sumAmount(@Param("memberId") UUID memberId,
+                   @Param("transferType") TransferType transferType,
+                   @Param("startDate") LocalDate startDate,
+                   @Param("endDate") LocalDate endDate);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT r " +
+            "FROM DailyConsumptionRollup r " +
+            "WHERE r.member.id = :memberId " +
+            "AND r.consumedOn BETWEEN :startDate AND :endDate")
+    List<DailyConsumptionRollup> findForUpdate(@Param("memberId") UUID memberId,
+                                               @Param("startDate") LocalDate startDate,
+                                               @Param("endDate") LocalDate endDate);
+}
@@ -0,0 +1,21 @@
+package com.shinhan.dongibuyeo.domain.consume.repository;
+
+import com.shinhan.dongibuyeo.domain.consume.entity.LedgerWatermark;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
+import java.util.UUID;
+
+public interface LedgerWatermarkRepository extends JpaRepository<LedgerWatermark, UUID> {
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT w " +
+            "FROM LedgerWatermark w " +
+            "WHERE w.member.id = :memberId " +
+            "AND w.accountNo = :accountNo ")
+    Optional<LedgerWatermark> findForUpdate(@Param("memberId") UUID memberId, @Param("accountNo") String accountNo);
+}
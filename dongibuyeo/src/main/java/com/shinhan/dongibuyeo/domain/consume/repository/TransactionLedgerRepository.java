@@ -0,0 +1,53 @@
+package com.shinhan.dongibuyeo.domain.consume.repository;
+
+import com.shinhan.dongibuyeo.domain.consume.entity.TransactionLedger;
+import com.shinhan.dongibuyeo.global.entity.TransferType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+public interface TransactionLedgerRepository extends JpaRepository<TransactionLedger, UUID> {
+
+    @Query("SELECT COALESCE(SUM(l.amount), 0) " +
+            "FROM TransactionLedger l " +
+            "WHERE l.member.id = :memberId " +
+            "AND l.accountNo IN :accountNos " +
+            "AND l.transferType = :transferType " +
+            "AND l.transactedAt BETWEEN :startAt AND :endAt " +
+            "AND (:transactionType IS NULL OR l.transactionType = :transactionType)")
+    Long sumAmount(@Param("memberId") UUID memberId,
+                   @Param("accountNos") Collection<String> accountNos,
+                   @Param("transferType") TransferType transferType,
+                   @Param("startAt") LocalDateTime startAt,
+                   @Param("endAt") LocalDateTime endAt,
+                   @Param("transactionType") String transactionType);
+
+    @Query("SELECT l " +
+            "FROM TransactionLedger l " +
+            "WHERE l.member.id = :memberId " +
+            "AND l.accountNo = :accountNo " +
+            "AND l.transferType = :transferType " +
+            "AND l.transactedAt BETWEEN :startAt AND :endAt " +
+            "AND (:transactionType IS NULL OR l.transactionType = :transactionType) " +
+            "ORDER BY l.transactedAt DESC")
+    List<TransactionLedger> findHistory(@Param("memberId") UUID memberId,
+                                        @Param("accountNo") String accountNo,
+                                        @Param("transferType") TransferType transferType,
+                                        @Param("startAt") LocalDateTime startAt,
+                                        @Param("endAt") LocalDateTime endAt,
+                                        @Param("transactionType") String transactionType);
+
+    @Query("SELECT l.transactionUniqueNo " +
+            "FROM TransactionLedger l " +
+            "WHERE l.accountNo = :accountNo " +
+            "AND l.transactedAt BETWEEN :startAt AND :endAt")
+    Set<String> findTransactionUniqueNos(@Param("accountNo") String accountNo,
+                                         @Param("startAt") LocalDateTime startAt,
+                                         @Param("endAt") LocalDateTime endAt);
+}
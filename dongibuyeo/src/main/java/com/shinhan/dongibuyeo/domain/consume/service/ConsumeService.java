@@ -1,75 +1,97 @@
 package com.shinhan.dongibuyeo.domain.consume.service;
 
-import com.shinhan.dongibuyeo.domain.account.client.AccountClient;
-import com.shinhan.dongibuyeo.domain.account.dto.client.ShinhanTransactionHistoryResponse;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.shinhan.dongibuyeo.domain.account.dto.request.TransactionHistoryRequest;
 import com.shinhan.dongibuyeo.domain.account.dto.response.TransactionHistory;
-import com.shinhan.dongibuyeo.domain.account.mapper.AccountMapper;
+import com.shinhan.dongibuyeo.domain.account.entity.Account;
 import com.shinhan.dongibuyeo.domain.consume.dto.request.ConsumptionRequest;
 import com.shinhan.dongibuyeo.domain.consume.dto.request.MakeConsumptionRequest;
+import com.shinhan.dongibuyeo.domain.consume.dto.response.BulkConsumptionResponse;
 import com.shinhan.dongibuyeo.domain.consume.dto.response.ConsumptionResponse;
+import com.shinhan.dongibuyeo.domain.consume.dto.response.PeriodConsumptionResponse;
 import com.shinhan.dongibuyeo.domain.consume.entity.Consumption;
+import com.shinhan.dongibuyeo.domain.consume.entity.TransactionLedger;
+import com.shinhan.dongibuyeo.domain.consume.exception.InvalidConsumptionPayloadException;
+import com.shinhan.dongibuyeo.domain.consume.repository.ConsumptionRepository;
+import com.shinhan.dongibuyeo.domain.consume.repository.TransactionLedgerRepository;
 import com.shinhan.dongibuyeo.domain.member.entity.Member;
 import com.shinhan.dongibuyeo.domain.member.service.MemberService;
 import com.shinhan.dongibuyeo.global.entity.TransferType;
-import com.shinhan.dongibuyeo.global.exception.ClientException;
 import jakarta.transaction.Transactional;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.stereotype.Service;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
 import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
-import java.util.concurrent.atomic.AtomicLong;
 
 @Service
 public class ConsumeService {
     private static final Logger log = LoggerFactory.getLogger(ConsumeService.class);
-    @Value("${shinhan.key}")
-    private String apiKey;
-    private AccountClient accountClient;
-    private AccountMapper accountMapper;
+    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd");
+    private static final DateTimeFormatter TIME_FORMAT = DateTimeFormatter.ofPattern("HHmmss");
+    private static final DateTimeFormatter DATE_TIME_FORMAT = DateTimeFormatter.ofPattern("yyyyMMddHHmmss");
     private MemberService memberService;
+    private LedgerSyncService ledgerSyncService;
+    private TransactionLedgerRepository transactionLedgerRepository;
+    private ConsumptionRepository consumptionRepository;
+    private ConsumptionRollupService consumptionRollupService;
+    private ConsumptionBulkWriter consumptionBulkWriter;
+    private ObjectMapper objectMapper;
 
-    public ConsumeService(AccountClient accountClient, AccountMapper accountMapper, MemberService memberService) {
-        this.accountClient = accountClient;
-        this.accountMapper = accountMapper;
+    public ConsumeService(MemberService memberService, LedgerSyncService ledgerSyncService, TransactionLedgerRepository transactionLedgerRepository, ConsumptionRepository consumptionRepository, ConsumptionRollupService consumptionRollupService, ConsumptionBulkWriter consumptionBulkWriter, ObjectMapper objectMapper) {
         this.memberService = memberService;
+        this.ledgerSyncService = ledgerSyncService;
+        this.transactionLedgerRepository = transactionLedgerRepository;
+        this.consumptionRepository = consumptionRepository;
+        this.consumptionRollupService = consumptionRollupService;
+        this.consumptionBulkWriter = consumptionBulkWriter;
+        this.objectMapper = objectMapper;
     }
 
+    /**
+     * 계좌의 타입별 소비 합계 조회 메서드
+     * - 원장을 delta 동기화한 뒤 원장 합계 + 직접 등록한 소비내역 합계
+     */
     @Transactional
     public ConsumptionResponse getTotalConsumption(ConsumptionRequest request) {
         Member member = memberService.getMemberById(request.getHistory().getMemberId());
         log.info("[getTotalConsumption] member: {}", member.getId());
-        AtomicLong result = new AtomicLong(0);
+        TransactionHistoryRequest history = request.getHistory();
+        LocalDateTime startAt = toStartAt(history.getStartDate());
+        LocalDateTime endAt = toEndAt(history.getEndDate());
 
-        ShinhanTransactionHistoryResponse response = accountClient.getTransactionHistory(
-                accountMapper.toShinhanTransactionHistoryRequest(request.getHistory(),apiKey,member)
-        );
+        ledgerSyncService.sync(member, List.of(history.getAccountNo()), startAt.toLocalDate());
 
-        log.info("[getTotalConsumption] response: {}", response.getRec());
-        response.getRec().getTransactions().addAll(
-                getTransactionHistoryFromConsumption(member,request.getTransferType(),request.getHistory().getStartDate(),request.getHistory().getEndDate()).stream().map(this::toHistory).toList()
+        long result = transactionLedgerRepository.sumAmount(
+                member.getId(),
+                List.of(history.getAccountNo()),
+                request.getTransferType(),
+                startAt,
+                endAt,
+                toLedgerTransactionType(history.getTransactionType())
         );
 
-        response.getRec().getTransactions().forEach(transaction -> {
-            if(transaction.getTransactionSummary().startsWith(request.getTransferType().toString())) {
-                result.addAndGet(Math.abs(transaction.getTransactionAfterBalance() - transaction.getTransactionBalance()));
-            }
-        });
+        result += consumptionRepository.sumAmount(member.getId(), request.getTransferType(), startAt, endAt);
 
-        return new ConsumptionResponse(request.getTransferType(),result.get());
+        return new ConsumptionResponse(request.getTransferType(),result);
     }
 
     private TransactionHistory toHistory(Consumption consumption) {
         return new TransactionHistory(
                 consumption.getTransactionUniqueNo(),
-                consumption.getTransactionDate(),
-                consumption.getTransactionTime(),
+                consumption.getTransactedAt().format(DATE_FORMAT),
+                consumption.getTransactedAt().format(TIME_FORMAT),
                 consumption.getTransactionType(),
                 consumption.getTransactionTypeName(),
                 consumption.getTransactionAccountNo(),
@@ -80,83 +102,203 @@ public class ConsumeService {
         );
     }
 
-    private List<Consumption> getTransactionHistoryFromConsumption(Member member, TransferType transferType, String startDate, String endDate) {
-        List<Consumption> getConsumptions = new ArrayList<>();
+    private TransactionHistory toHistory(TransactionLedger ledger) {
+        return new TransactionHistory(
+                ledger.getTransactionUniqueNo(),
+                ledger.getTransactedAt().format(DATE_FORMAT),
+                ledger.getTransactedAt().format(TIME_FORMAT),
+                ledger.getTransactionType(),
+                ledger.getTransactionTypeName(),
+                ledger.getTransactionAccountNo(),
+                ledger.getTransactionBalance(),
+                ledger.getTransactionAfterBalance(),
+                ledger.getTransactionSummary(),
+                ledger.getTransactionMemo()
+        );
+    }
 
-        for(Consumption cur : member.getConsumptions()) {
-            if(cur.getTransactionSummary().startsWith(transferType.toString()) && cur.getTransactionDate().compareTo(startDate) >= 0 && cur.getTransactionDate().compareTo(endDate) <= 0) {
-                getConsumptions.add(cur);
-            }
+    /**
+     * 조회 요청의 거래구분(M: 입금, D: 출금, A: 전체)을 원장의 거래구분 코드로 변환
+     */
+    private String toLedgerTransactionType(String transactionType) {
+        if ("M".equals(transactionType)) {
+            return "1";
         }
+        if ("D".equals(transactionType)) {
+            return "2";
+        }
+        return null;
+    }
 
-        return getConsumptions;
+    private LocalDateTime toStartAt(String date) {
+        if (date.length() == 14) {
+            return LocalDateTime.parse(date, DATE_TIME_FORMAT);
+        }
+        return LocalDate.parse(date, DATE_FORMAT).atStartOfDay();
+    }
+
+    private LocalDateTime toEndAt(String date) {
+        if (date.length() == 14) {
+            return LocalDateTime.parse(date, DATE_TIME_FORMAT);
+        }
+        return LocalDate.parse(date, DATE_FORMAT).atTime(LocalTime.MAX);
     }
 
     @Transactional
     public List<TransactionHistory> getTypeHistory(ConsumptionRequest request) {
         Member member = memberService.getMemberById(request.getHistory().getMemberId());
+        TransactionHistoryRequest history = request.getHistory();
+        LocalDateTime startAt = toStartAt(history.getStartDate());
+        LocalDateTime endAt = toEndAt(history.getEndDate());
+
+        ledgerSyncService.sync(member, List.of(history.getAccountNo()), startAt.toLocalDate());
 
-        ShinhanTransactionHistoryResponse response = accountClient.getTransactionHistory(
-                accountMapper.toShinhanTransactionHistoryRequest(request.getHistory(),apiKey,member)
+        List<TransactionHistory> transactions = new ArrayList<>(
+                transactionLedgerRepository.findHistory(
+                                member.getId(),
+                                history.getAccountNo(),
+                                request.getTransferType(),
+                                startAt,
+                                endAt,
+                                toLedgerTransactionType(history.getTransactionType())
+                        )
+                        .stream()
+                        .map(this::toHistory)
+                        .toList()
         );
 
-        response.getRec().getTransactions().addAll(
-                getTransactionHistoryFromConsumption(member,request.getTransferType(),request.getHistory().getStartDate(),request.getHistory().getEndDate()).stream().map(this::toHistory).toList()
+        transactions.addAll(
+                consumptionRepository.findByMemberAndTypeBetween(member.getId(), request.getTransferType(), startAt, endAt)
+                        .stream()
+                        .map(this::toHistory)
+                        .toList()
         );
 
-        return response.getRec().getTransactions().stream().filter(x -> x.getTransactionSummary().startsWith(request.getTransferType().toString())).toList();
+        return transactions;
     }
 
+    /**
+     * 회원의 전체 계좌 소비 합계 조회 메서드
+     * - 계좌별 원장을 delta 동기화한 뒤 일자별 소비 집계로 계산
+     */
     @Transactional
     public long getMembersTotalConsumption(UUID memberId, LocalDate startDate, LocalDate endDate, TransferType transferType) {
-        Member member = memberService.getMemberById(memberId);
+        syncMemberLedger(memberId, startDate);
+        return consumptionRollupService.getTotalConsumption(memberId, transferType, startDate, endDate);
+    }
+
+    /**
+     * 챌린지 기간과 동일한 길이의 직전 기간 소비 합계 비교 조회 메서드
+     * - 두 기간을 한 번의 원장 동기화로 처리
+     */
+    @Transactional
+    public PeriodConsumptionResponse getMembersPeriodConsumption(UUID memberId, LocalDate startDate, LocalDate endDate, TransferType transferType) {
+        return getPeriodConsumption(memberId, startDate, endDate, transferType, false);
+    }
+
+    /**
+     * 정산용 직전 기간 비교 조회 메서드 (원장 동기화에 호출량 제한 클라이언트 사용)
+     */
+    @Transactional
+    public PeriodConsumptionResponse getSettlementPeriodConsumption(UUID memberId, LocalDate startDate, LocalDate endDate, TransferType transferType) {
+        return getPeriodConsumption(memberId, startDate, endDate, transferType, true);
+    }
 
-        AtomicLong totalConsumption = new AtomicLong(0L);
-        member.getAccounts()
-                .forEach(
-                        account -> {
-
-                            ConsumptionRequest request = new ConsumptionRequest(
-                                    transferType,
-                                    TransactionHistoryRequest.builder()
-                                            .memberId(memberId)
-                                            .accountNo(account.getAccountNo())
-                                            .startDate(startDate.format(DateTimeFormatter.ofPattern("yyyyMMdd")))
-                                            .endDate(endDate.format(DateTimeFormatter.ofPattern("yyyyMMdd")))
-                                            .transactionType("D")
-                                            .orderByType("DESC")
-                                            .build()
-                            );
-                            try {
-                                totalConsumption.addAndGet(getTotalConsumption(request).getTotalConsumption());
-                            } catch (ClientException e) {
-                                log.error("[getMembersTotalConsumption]", e);
-                            }
-                        }
-                );
-
-        return totalConsumption.get();
+    private PeriodConsumptionResponse getPeriodConsumption(UUID memberId, LocalDate startDate, LocalDate endDate, TransferType transferType, boolean forSettlement) {
+        long duration = ChronoUnit.DAYS.between(startDate, endDate);
+        LocalDate previousPeriodStartDate = startDate.minusDays(duration);
+        LocalDate previousPeriodEndDate = startDate.minusDays(1);
+
+        syncMemberLedger(memberId, previousPeriodStartDate, forSettlement);
+
+        return new PeriodConsumptionResponse(
+                consumptionRollupService.getTotalConsumption(memberId, transferType, previousPeriodStartDate, previousPeriodEndDate),
+                consumptionRollupService.getTotalConsumption(memberId, transferType, startDate, endDate)
+        );
     }
 
+    private void syncMemberLedger(UUID memberId, LocalDate from) {
+        syncMemberLedger(memberId, from, false);
+    }
+
+    private void syncMemberLedger(UUID memberId, LocalDate from, boolean forSettlement) {
+        Member member = memberService.getMemberById(memberId);
+        List<String> accountNos = member.getAccounts().stream()
+                .map(Account::getAccountNo)
+                .toList();
+
+        if (!accountNos.isEmpty()) {
+            if (forSettlement) {
+                ledgerSyncService.syncForSettlement(member, accountNos, from);
+            } else {
+                ledgerSyncService.sync(member, accountNos, from);
+            }
+        }
+    }
 
     @Transactional
     public void addConsumption(MakeConsumptionRequest request) {
         Member member = memberService.getMemberById(request.getMemberId());
 
-        member.getConsumptions().add(
-                new Consumption(
-                        member,
-                        request.getTransactionUniqueNo(),
-                        request.getTransactionDate(),
-                        request.getTransactionTime(),
-                        request.getTransactionType(),
-                        request.getTransactionTypeName(),
-                        request.getTransactionAccountNo(),
-                        request.getTransactionBalance(),
-                        request.getTransactionAfterBalance(),
-                        request.getTransactionSummary(),
-                        request.getTransactionMemo()
-                )
+        Consumption consumption = new Consumption(
+                member,
+                request.getTransactionUniqueNo(),
+                LedgerSyncService.toTransactedAt(request.getTransactionDate(), request.getTransactionTime()),
+                request.getTransactionType(),
+                request.getTransactionTypeName(),
+                request.getTransactionAccountNo(),
+                request.getTransactionBalance(),
+                request.getTransactionAfterBalance(),
+                request.getTransactionSummary(),
+                request.getTransactionMemo()
         );
+        consumptionRepository.save(consumption);
+        consumptionRollupService.record(member, consumption);
+    }
+
+    /**
+     * 소비내역 대량 등록 메서드
+     * - JSON 배열 또는 NDJSON 스트림을 순차로 읽어 청크 단위로 적재 (청크마다 커밋)
+     * - 회원 엔티티를 로딩하지 않는다.
+     * - 중간에 형식 오류가 나면 이미 커밋된 건수와 실패 위치를 담아 400 응답 (committed 위치부터 재전송)
+     */
+    public BulkConsumptionResponse addConsumptions(InputStream body) {
+        BulkConsumptionResponse result = new BulkConsumptionResponse();
+        List<MakeConsumptionRequest> chunk = new ArrayList<>(consumptionBulkWriter.getBatchSize());
+
+        try (MappingIterator<MakeConsumptionRequest> iterator = objectMapper.readerFor(MakeConsumptionRequest.class).readValues(body)) {
+            while (iterator.hasNextValue()) {
+                chunk.add(iterator.nextValue());
+                if (chunk.size() == consumptionBulkWriter.getBatchSize()) {
+                    result = result.merge(writeChunk(chunk));
+                    chunk.clear();
+                }
+            }
+        } catch (IOException e) {
+            long failedOffset = result.getReceived() + chunk.size();
+            log.error("[addConsumptions] committed: {}, inserted: {}, failedOffset: {}", result.getReceived(), result.getInserted(), failedOffset, e);
+            throw new InvalidConsumptionPayloadException(result.getReceived(), result.getInserted(), failedOffset);
+        }
+
+        if (!chunk.isEmpty()) {
+            result = result.merge(writeChunk(chunk));
+        }
+
+        log.info("[addConsumptions] received: {}, inserted: {}, duplicated: {}, rejected: {}",
+                result.getReceived(), result.getInserted(), result.getDuplicated(), result.getRejected());
+        return result;
+    }
+
+    /**
+     * 청크 적재
+     * - 동시 요청이 같은 거래를 먼저 커밋해 유니크 키 충돌이 나면 중복 확인부터 한 번 다시 수행
+     */
+    private BulkConsumptionResponse writeChunk(List<MakeConsumptionRequest> chunk) {
+        try {
+            return consumptionBulkWriter.write(chunk);
+        } catch (DuplicateKeyException e) {
+            log.warn("[addConsumptions] concurrent duplicate detected, retrying chunk of {}", chunk.size());
+            return consumptionBulkWriter.write(chunk);
+        }
     }
 }
@@ -0,0 +1,114 @@
+package com.shinhan.dongibuyeo.domain.consume.service;
+
+import com.shinhan.dongibuyeo.domain.consume.dto.ConsumptionKey;
+import com.shinhan.dongibuyeo.domain.consume.dto.request.MakeConsumptionRequest;
+import com.shinhan.dongibuyeo.domain.consume.dto.response.BulkConsumptionResponse;
+import com.shinhan.dongibuyeo.domain.consume.entity.Consumption;
+import com.shinhan.dongibuyeo.domain.consume.repository.ConsumptionJdbcRepository;
+import com.shinhan.dongibuyeo.domain.consume.repository.ConsumptionRepository;
+import com.shinhan.dongibuyeo.domain.member.repository.MemberRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.format.DateTimeParseException;
+import java.util.*;
+
+/**
+ * 소비내역 청크 단위 적재
+ * - 청크 하나를 하나의 트랜잭션으로 JDBC batch insert
+ * - 회원 + 거래고유번호 기준 중복 제거 (요청 내부, 기존 데이터 모두), DB 유니크 키로도 보장
+ */
+@Service
+public class ConsumptionBulkWriter {
+
+    @Value("${shinhan.consume.bulk-batch-size}")
+    private int batchSize;
+
+    private final ConsumptionRepository consumptionRepository;
+    private final ConsumptionJdbcRepository consumptionJdbcRepository;
+    private final MemberRepository memberRepository;
+    private final ConsumptionRollupService consumptionRollupService;
+
+    public ConsumptionBulkWriter(ConsumptionRepository consumptionRepository, ConsumptionJdbcRepository consumptionJdbcRepository, MemberRepository memberRepository, ConsumptionRollupService consumptionRollupService) {
+        this.consumptionRepository = consumptionRepository;
+        this.consumptionJdbcRepository = consumptionJdbcRepository;
+        this.memberRepository = memberRepository;
+        this.consumptionRollupService = consumptionRollupService;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    @Transactional
+    public BulkConsumptionResponse write(List<MakeConsumptionRequest> requests) {
+        List<MakeConsumptionRequest> valid = requests.stream()
+                .filter(this::isValid)
+                .toList();
+
+        Set<UUID> memberIds = new HashSet<>(memberRepository.findExistingIds(
+                valid.stream().map(MakeConsumptionRequest::getMemberId).distinct().toList()
+        ));
+
+        List<MakeConsumptionRequest> accepted = valid.stream()
+                .filter(request -> memberIds.contains(request.getMemberId()))
+                .toList();
+
+        Set<ConsumptionKey> seen = new HashSet<>();
+        if (!accepted.isEmpty()) {
+            seen.addAll(consumptionRepository.findExistingKeys(
+                    memberIds,
+                    accepted.stream().map(MakeConsumptionRequest::getTransactionUniqueNo).distinct().toList()
+            ));
+        }
+
+        List<Consumption> consumptions = accepted.stream()
+                .filter(request -> seen.add(new ConsumptionKey(request.getMemberId(), request.getTransactionUniqueNo())))
+                .map(this::toConsumption)
+                .toList();
+
+        consumptionJdbcRepository.batchInsert(consumptions, batchSize);
+        consumptionRollupService.record(consumptions);
+
+        return new BulkConsumptionResponse(
+                requests.size(),
+                consumptions.size(),
+                accepted.size() - consumptions.size(),
+                requests.size() - accepted.size()
+        );
+    }
+
+    private boolean isValid(MakeConsumptionRequest request) {
+        return request.getMemberId() != null
+                && request.getTransactionUniqueNo() != null
+                && request.getTransactionDate() != null
+                && request.getTransactionBalance() != null
+                && request.getTransactionAfterBalance() != null
+                && isParsable(request.getTransactionDate(), request.getTransactionTime());
+    }
+
+    private boolean isParsable(String transactionDate, String transactionTime) {
+        try {
+            LedgerSyncService.toTransactedAt(transactionDate, transactionTime);
+            return true;
+        } catch (DateTimeParseException e) {
+            return false;
+        }
+    }
+
+    private Consumption toConsumption(MakeConsumptionRequest request) {
+        return new Consumption(
+                memberRepository.getReferenceById(request.getMemberId()),
+                request.getTransactionUniqueNo(),
+                LedgerSyncService.toTransactedAt(request.getTransactionDate(), request.getTransactionTime()),
+                request.getTransactionType(),
+                request.getTransactionTypeName(),
+                request.getTransactionAccountNo(),
+                request.getTransactionBalance(),
+                request.getTransactionAfterBalance(),
+                request.getTransactionSummary(),
+                request.getTransactionMemo()
+        );
+    }
+}
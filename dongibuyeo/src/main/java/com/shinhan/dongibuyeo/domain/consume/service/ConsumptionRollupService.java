@@ -0,0 +1,120 @@
+package com.shinhan.dongibuyeo.domain.consume.service;
+
+import com.shinhan.dongibuyeo.domain.consume.entity.Consumption;
+import com.shinhan.dongibuyeo.domain.consume.entity.DailyConsumptionRollup;
+import com.shinhan.dongibuyeo.domain.consume.entity.TransactionLedger;
+import com.shinhan.dongibuyeo.domain.consume.repository.DailyConsumptionRollupRepository;
+import com.shinhan.dongibuyeo.domain.member.entity.Member;
+import com.shinhan.dongibuyeo.global.entity.TransferType;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service
+public class ConsumptionRollupService {
+
+    private static final String WITHDRAWAL = "2";
+
+    private final DailyConsumptionRollupRepository rollupRepository;
+
+    public ConsumptionRollupService(DailyConsumptionRollupRepository rollupRepository) {
+        this.rollupRepository = rollupRepository;
+    }
+
+    /**
+     * 기간 소비 합계 조회 메서드
+     * - 일자별 집계 행만 합산하므로 기간 길이만큼의 행만 읽는다.
+     */
+    @Transactional(readOnly = true)
+    public long getTotalConsumption(UUID memberId, TransferType transferType, LocalDate startDate, LocalDate endDate) {
+        return rollupRepository.sumAmount(memberId, transferType, startDate, endDate);
+    }
+
+    /**
+     * 새로 수집된 원장 거래 중 출금 건을 일자별 합계에 누적
+     */
+    @Transactional
+    public void record(Member member, List<TransactionLedger> ledgers) {
+        List<RollupDelta> deltas = ledgers.stream()
+                .filter(ledger -> ledger.getTransferType() != null && WITHDRAWAL.equals(ledger.getTransactionType()))
+                .map(ledger -> new RollupDelta(ledger.getTransferType(), ledger.getTransactedAt().toLocalDate(), ledger.getAmount()))
+                .toList();
+
+        apply(member, deltas);
+    }
+
+    /**
+     * 직접 등록한 소비내역을 일자별 합계에 누적
+     */
+    @Transactional
+    public void record(Member member, Consumption consumption) {
+        if (consumption.getTransferType() == null) {
+            return;
+        }
+
+        apply(member, List.of(new RollupDelta(
+                consumption.getTransferType(),
+                consumption.getTransactedAt().toLocalDate(),
+                Math.abs(consumption.getTransactionAfterBalance() - consumption.getTransactionBalance())
+        )));
+    }
+
+    /**
+     * 대량 적재된 소비내역을 회원별로 묶어 일자별 합계에 누적
+     */
+    @Transactional
+    public void record(List<Consumption> consumptions) {
+        consumptions.stream()
+                .filter(consumption -> consumption.getTransferType() != null)
+                .collect(Collectors.groupingBy(consumption -> consumption.getMember().getId()))
+                .values()
+                .forEach(memberConsumptions -> apply(
+                        memberConsumptions.get(0).getMember(),
+                        memberConsumptions.stream()
+                                .map(consumption -> new RollupDelta(
+                                        consumption.getTransferType(),
+                                        consumption.getTransactedAt().toLocalDate(),
+                                        Math.abs(consumption.getTransactionAfterBalance() - consumption.getTransactionBalance())
+                                ))
+                                .toList()
+                ));
+    }
+
+    private void apply(Member member, List<RollupDelta> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        Map<RollupKey, Long> amounts = deltas.stream()
+                .collect(Collectors.groupingBy(delta -> new RollupKey(delta.transferType(), delta.consumedOn()), Collectors.summingLong(RollupDelta::amount)));
+
+        LocalDate startDate = Collections.min(amounts.keySet(), Comparator.comparing(RollupKey::consumedOn)).consumedOn();
+        LocalDate endDate = Collections.max(amounts.keySet(), Comparator.comparing(RollupKey::consumedOn)).consumedOn();
+
+        Map<RollupKey, DailyConsumptionRollup> rollups = rollupRepository.findForUpdate(member.getId(), startDate, endDate)
+                .stream()
+                .collect(Collectors.toMap(rollup -> new RollupKey(rollup.getTransferType(), rollup.getConsumedOn()), Function.identity()));
+
+        List<DailyConsumptionRollup> created = new ArrayList<>();
+        amounts.forEach((key, amount) -> {
+            DailyConsumptionRollup rollup = rollups.get(key);
+            if (rollup == null) {
+                rollup = new DailyConsumptionRollup(member, key.transferType(), key.consumedOn());
+                created.add(rollup);
+            }
+            rollup.add(amount);
+        });
+
+        rollupRepository.saveAll(created);
+    }
+
+    private record RollupKey(TransferType transferType, LocalDate consumedOn) {
+    }
+
+    private record RollupDelta(TransferType transferType, LocalDate consumedOn, long amount) {
+    }
+}
@@ -0,0 +1,184 @@
+package com.shinhan.dongibuyeo.domain.consume.service;
+
+import com.shinhan.dongibuyeo.domain.account.client.AccountClient;
+import com.shinhan.dongibuyeo.domain.account.client.SettlementHistoryClient;
+import com.shinhan.dongibuyeo.domain.account.dto.client.ShinhanTransactionHistoryRequest;
+import com.shinhan.dongibuyeo.domain.account.dto.client.ShinhanTransactionHistoryResponse;
+import com.shinhan.dongibuyeo.domain.account.dto.request.TransactionHistoryRequest;
+import com.shinhan.dongibuyeo.domain.account.dto.response.TransactionHistory;
+import com.shinhan.dongibuyeo.domain.account.mapper.AccountMapper;
+import com.shinhan.dongibuyeo.domain.consume.entity.LedgerWatermark;
+import com.shinhan.dongibuyeo.domain.consume.entity.TransactionLedger;
+import com.shinhan.dongibuyeo.domain.consume.repository.LedgerWatermarkRepository;
+import com.shinhan.dongibuyeo.domain.consume.repository.TransactionLedgerRepository;
+import com.shinhan.dongibuyeo.domain.member.entity.Member;
+import com.shinhan.dongibuyeo.global.exception.ClientException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+import java.util.*;
+import java.util.function.Function;
+
+@Slf4j
+@Service
+public class LedgerSyncService {
+
+    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd");
+    private static final DateTimeFormatter TIME_FORMAT = DateTimeFormatter.ofPattern("HHmmss");
+
+    @Value("${shinhan.key}")
+    private String apiKey;
+
+    @Value("${shinhan.consume.history-concurrency}")
+    private int historyConcurrency;
+
+    private final TransactionLedgerRepository transactionLedgerRepository;
+    private final LedgerWatermarkRepository ledgerWatermarkRepository;
+    private final AccountClient accountClient;
+    private final SettlementHistoryClient settlementHistoryClient;
+    private final AccountMapper accountMapper;
+    private final ConsumptionRollupService consumptionRollupService;
+
+    public LedgerSyncService(TransactionLedgerRepository transactionLedgerRepository, LedgerWatermarkRepository ledgerWatermarkRepository, AccountClient accountClient, SettlementHistoryClient settlementHistoryClient, AccountMapper accountMapper, ConsumptionRollupService consumptionRollupService) {
+        this.transactionLedgerRepository = transactionLedgerRepository;
+        this.ledgerWatermarkRepository = ledgerWatermarkRepository;
+        this.accountClient = accountClient;
+        this.settlementHistoryClient = settlementHistoryClient;
+        this.accountMapper = accountMapper;
+        this.consumptionRollupService = consumptionRollupService;
+    }
+
+    /**
+     * 회원 계좌 거래내역 원장 동기화 메서드
+     * - 최초 동기화: from ~ 오늘 전체 조회
+     * - 이후: 워터마크 날짜 ~ 오늘(delta)과 아직 수집하지 않은 과거 구간만 조회
+     *
+     * @param member     원장 소유 회원
+     * @param accountNos 동기화할 계좌번호 목록
+     * @param from       조회에 필요한 가장 이른 날짜
+     */
+    @Transactional
+    public void sync(Member member, Collection<String> accountNos, LocalDate from) {
+        sync(member, accountNos, from, accountClient::getTransactionHistoryAsync);
+    }
+
+    /**
+     * 정산용 원장 동기화 메서드 (호출량 제한이 적용된 클라이언트로 조회)
+     */
+    @Transactional
+    public void syncForSettlement(Member member, Collection<String> accountNos, LocalDate from) {
+        sync(member, accountNos, from, settlementHistoryClient::getTransactionHistoryAsync);
+    }
+
+    private void sync(Member member, Collection<String> accountNos, LocalDate from,
+                      Function<ShinhanTransactionHistoryRequest, Mono<ShinhanTransactionHistoryResponse>> history) {
+        LocalDate today = LocalDate.now();
+        List<SyncWindow> windows = new ArrayList<>();
+
+        for (String accountNo : new LinkedHashSet<>(accountNos)) {
+            LedgerWatermark watermark = ledgerWatermarkRepository.findForUpdate(member.getId(), accountNo)
+                    .orElseGet(() -> ledgerWatermarkRepository.save(new LedgerWatermark(member, accountNo)));
+
+            if (!watermark.isInitialized()) {
+                windows.add(new SyncWindow(watermark, from, today));
+                continue;
+            }
+
+            if (from.isBefore(watermark.getSyncedFrom())) {
+                windows.add(new SyncWindow(watermark, from, watermark.getSyncedFrom().minusDays(1)));
+            }
+            windows.add(new SyncWindow(watermark, watermark.getSyncedTo(), today));
+        }
+
+        // 조회는 병렬로, 저장은 현재 트랜잭션 스레드에서 처리
+        List<FetchedWindow> fetchedWindows = Flux.fromIterable(windows)
+                .flatMap(window -> fetch(member, window, history), historyConcurrency)
+                .collectList()
+                .blockOptional()
+                .orElse(List.of());
+
+        fetchedWindows.forEach(fetched -> apply(member, fetched));
+    }
+
+    private Mono<FetchedWindow> fetch(Member member, SyncWindow window,
+                                      Function<ShinhanTransactionHistoryRequest, Mono<ShinhanTransactionHistoryResponse>> history) {
+        TransactionHistoryRequest request = TransactionHistoryRequest.builder()
+                .memberId(member.getId())
+                .accountNo(window.watermark().getAccountNo())
+                .startDate(window.start().format(DATE_FORMAT))
+                .endDate(window.end().format(DATE_FORMAT))
+                .transactionType("A")
+                .orderByType("ASC")
+                .build();
+
+        return history.apply(accountMapper.toShinhanTransactionHistoryRequest(request, apiKey, member))
+                .map(response -> new FetchedWindow(window, response.getRec().getTransactions()))
+                .onErrorResume(ClientException.class, e -> {
+                    log.error("[LedgerSync] accountNo: {}, window: {} ~ {}", window.watermark().getAccountNo(), window.start(), window.end(), e);
+                    return Mono.empty();
+                });
+    }
+
+    private void apply(Member member, FetchedWindow fetched) {
+        SyncWindow window = fetched.window();
+        LedgerWatermark watermark = window.watermark();
+
+        Set<String> existing = transactionLedgerRepository.findTransactionUniqueNos(
+                watermark.getAccountNo(),
+                window.start().atStartOfDay(),
+                window.end().atTime(LocalTime.MAX)
+        );
+
+        List<TransactionLedger> newLedgers = Optional.ofNullable(fetched.transactions()).orElse(List.of())
+                .stream()
+                .filter(transaction -> existing.add(transaction.getTransactionUniqueNo()))
+                .map(transaction -> toLedger(member, watermark.getAccountNo(), transaction))
+                .toList();
+
+        transactionLedgerRepository.saveAll(newLedgers);
+        consumptionRollupService.record(member, newLedgers);
+        newLedgers.forEach(watermark::updateLastTransaction);
+
+        watermark.extendFrom(window.start());
+        watermark.advanceTo(window.end());
+        log.info("[LedgerSync] accountNo: {}, window: {} ~ {}, inserted: {}", watermark.getAccountNo(), window.start(), window.end(), newLedgers.size());
+    }
+
+    private TransactionLedger toLedger(Member member, String accountNo, TransactionHistory transaction) {
+        return TransactionLedger.builder()
+                .member(member)
+                .accountNo(accountNo)
+                .transactionUniqueNo(transaction.getTransactionUniqueNo())
+                .transactedAt(toTransactedAt(transaction.getTransactionDate(), transaction.getTransactionTime()))
+                .transactionType(transaction.getTransactionType())
+                .transactionTypeName(transaction.getTransactionTypeName())
+                .transactionAccountNo(transaction.getTransactionAccountNo())
+                .transactionBalance(transaction.getTransactionBalance())
+                .transactionAfterBalance(transaction.getTransactionAfterBalance())
+                .transactionSummary(transaction.getTransactionSummary())
+                .transactionMemo(transaction.getTransactionMemo())
+                .build();
+    }
+
+    public static LocalDateTime toTransactedAt(String transactionDate, String transactionTime) {
+        LocalDate date = LocalDate.parse(transactionDate, DATE_FORMAT);
+        if (transactionTime == null || transactionTime.isBlank()) {
+            return date.atStartOfDay();
+        }
+        return date.atTime(LocalTime.parse(transactionTime, TIME_FORMAT));
+    }
+
+    private record SyncWindow(LedgerWatermark watermark, LocalDate start, LocalDate end) {
+    }
+
+    private record FetchedWindow(SyncWindow window, List<TransactionHistory> transactions) {
+    }
+}
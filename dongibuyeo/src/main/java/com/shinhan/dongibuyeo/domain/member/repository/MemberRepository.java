@@ -2,8 +2,12 @@ package com.shinhan.dongibuyeo.domain.member.repository;
 
 import com.shinhan.dongibuyeo.domain.member.entity.Member;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -15,4 +19,16 @@ public interface MemberRepository extends JpaRepository<Member, UUID> {
     Optional<Member> findMemberById(UUID memberId);
     Optional<Member> findMemberByEmail(String email);
 
+    @Query("SELECT m.id " +
+            "FROM Member m " +
+            "WHERE m.id IN :memberIds ")
+    List<UUID> findExistingIds(Collection<UUID> memberIds);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE Member m " +
+            "SET m.deviceToken = NULL " +
+            "WHERE m.deviceToken IN :deviceTokens ")
+    int clearDeviceTokens(Collection<String> deviceTokens);
+
 }
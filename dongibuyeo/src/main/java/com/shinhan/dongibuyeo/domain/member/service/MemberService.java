@@ -19,6 +19,7 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -49,6 +50,10 @@ public class MemberService {
                 .orElseThrow(() -> new MemberNotFoundException(id));
     }
 
+    public List<Member> getMembersByIds(Collection<UUID> ids) {
+        return memberRepository.findAllById(ids);
+    }
+
     public Member getMemberByEmail(String email) {
         return memberRepository.findMemberByEmail(email).orElseThrow(() -> new MemberNotFoundException(email));
     }
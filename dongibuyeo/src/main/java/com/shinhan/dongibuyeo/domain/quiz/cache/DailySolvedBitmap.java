@@ -0,0 +1,109 @@
+package com.shinhan.dongibuyeo.domain.quiz.cache;
+
+import com.shinhan.dongibuyeo.domain.quiz.repository.QuizMemberRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 오늘 퀴즈를 푼 회원 비트맵
+ * - 회원마다 처음 본 순서대로 정수 인덱스를 부여하고, 해당 비트로 오늘 풀이 여부 표시
+ * - 자정에 새 날짜의 비트맵으로 교체하면서 인덱스도 초기화 (크기는 당일 풀이 회원 수로 제한), 시작 시와 교체 시 DB에서 해당 날짜 풀이 회원으로 채움
+ * - 켜진 비트만 확정(풀이함)으로 사용, 꺼진 비트는 다른 인스턴스에서 풀었을 수 있으므로 호출 측이 DB로 확인
+ */
+@Slf4j
+@Component
+public class DailySolvedBitmap {
+
+    private final QuizMemberRepository quizMemberRepository;
+    private final Map<UUID, Integer> memberIndexes = new HashMap<>();
+    private LocalDate date;
+    private BitSet solved = new BitSet();
+
+    public DailySolvedBitmap(QuizMemberRepository quizMemberRepository) {
+        this.quizMemberRepository = quizMemberRepository;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        rotate(LocalDate.now());
+    }
+
+    @Scheduled(cron = "0 0 0 * * *")
+    public void rotateAtMidnight() {
+        rotate(LocalDate.now());
+    }
+
+    /**
+     * 풀이 기록이 확인된 회원인지 여부
+     *
+     * @return false면 풀지 않았거나 다른 인스턴스에서 풀었을 수 있음 (호출 측이 DB로 확인)
+     */
+    public synchronized boolean isKnownSolved(UUID memberId, LocalDate day) {
+        if (!day.equals(date)) {
+            return false;
+        }
+        Integer index = memberIndexes.get(memberId);
+        return index != null && solved.get(index);
+    }
+
+    /**
+     * 풀이 기록 (트랜잭션 안이면 커밋 후 반영)
+     */
+    public void markSolved(UUID memberId, LocalDate day) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            mark(memberId, day);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                mark(memberId, day);
+            }
+        });
+    }
+
+    private synchronized void mark(UUID memberId, LocalDate day) {
+        if (day.equals(date)) {
+            solved.set(indexOf(memberId));
+        }
+    }
+
+    private void rotate(LocalDate day) {
+        synchronized (this) {
+            date = day;
+            memberIndexes.clear();
+            solved = new BitSet();
+        }
+
+        try {
+            List<UUID> memberIds = quizMemberRepository.findMemberIdsBySolvedAtRange(day.atStartOfDay(), day.plusDays(1).atStartOfDay());
+            synchronized (this) {
+                // 조회 중 날짜가 다시 바뀌었으면 버림, 조회 중 기록된 비트는 유지
+                if (!day.equals(date)) {
+                    return;
+                }
+                memberIds.forEach(memberId -> solved.set(indexOf(memberId)));
+            }
+            log.info("[DailySolvedBitmap] date: {}, solved: {}", day, memberIds.size());
+        } catch (Exception e) {
+            log.error("[DailySolvedBitmap] failed to load solved members. date: {}", day, e);
+        }
+    }
+
+    private int indexOf(UUID memberId) {
+        return memberIndexes.computeIfAbsent(memberId, id -> memberIndexes.size());
+    }
+}
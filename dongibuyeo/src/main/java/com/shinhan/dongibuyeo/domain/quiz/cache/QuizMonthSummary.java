@@ -0,0 +1,55 @@
+package com.shinhan.dongibuyeo.domain.quiz.cache;
+
+import com.shinhan.dongibuyeo.domain.quiz.dto.QuizSolveCount;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 월별 퀴즈 풀이 요약 (스냅샷, 변경하지 않음)
+ * - 전체 풀이 수, 풀이 회원 수, 회원별 풀이 수
+ * - 풀이 반영은 복사본을 만들어 처리 (조회 중인 스냅샷의 값이 어긋나지 않음)
+ */
+public class QuizMonthSummary {
+
+    private final int total;
+    private final Map<UUID, Integer> memberCounts;
+
+    QuizMonthSummary(List<QuizSolveCount> counts) {
+        this.memberCounts = new HashMap<>();
+        int sum = 0;
+        for (QuizSolveCount count : counts) {
+            memberCounts.put(count.memberId(), (int) count.count());
+            sum += (int) count.count();
+        }
+        this.total = sum;
+    }
+
+    private QuizMonthSummary(int total, Map<UUID, Integer> memberCounts) {
+        this.total = total;
+        this.memberCounts = memberCounts;
+    }
+
+    /**
+     * 회원의 풀이 1건을 더한 요약
+     */
+    QuizMonthSummary withSolve(UUID memberId) {
+        Map<UUID, Integer> counts = new HashMap<>(memberCounts);
+        counts.merge(memberId, 1, Integer::sum);
+        return new QuizMonthSummary(total + 1, counts);
+    }
+
+    public int getTotal() {
+        return total;
+    }
+
+    public int getSolvers() {
+        return memberCounts.size();
+    }
+
+    public int getCount(UUID memberId) {
+        return memberCounts.getOrDefault(memberId, 0);
+    }
+}
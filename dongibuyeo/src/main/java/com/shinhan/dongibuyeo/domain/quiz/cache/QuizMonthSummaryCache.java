@@ -0,0 +1,121 @@
+package com.shinhan.dongibuyeo.domain.quiz.cache;
+
+import com.shinhan.dongibuyeo.domain.quiz.repository.QuizMemberRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 월별 퀴즈 풀이 요약 캐시
+ * - 조회 시 GROUP BY 집계 쿼리 한 번으로 적재
+ * - 지난 달: 마감(다음 달 시작 + CLOSE_GRACE) 이후에 적재한 결과만 계속 보관
+ * - 이번 달: 이 인스턴스의 풀이는 커밋 후 스냅샷에 증분 반영, 다른 인스턴스의 풀이는 current-ttl-ms 마다 재적재로 반영
+ * - 그 외(마감 전 지난 달, 아직 시작하지 않은 달)는 캐싱하지 않음
+ */
+@Component
+public class QuizMonthSummaryCache {
+
+    private static final Duration CLOSE_GRACE = Duration.ofMinutes(1);
+
+    private final QuizMemberRepository quizMemberRepository;
+    private final long currentTtlMillis;
+    private final Map<YearMonth, QuizMonthSummary> closedSummaries = new ConcurrentHashMap<>();
+    private final AtomicLong version = new AtomicLong();
+    private volatile CurrentSummary current;
+
+    public QuizMonthSummaryCache(QuizMemberRepository quizMemberRepository,
+                                 @Value("${shinhan.quiz.summary.current-ttl-ms}") long currentTtlMillis) {
+        this.quizMemberRepository = quizMemberRepository;
+        this.currentTtlMillis = currentTtlMillis;
+    }
+
+    public QuizMonthSummary get(YearMonth yearMonth) {
+        LocalDateTime now = LocalDateTime.now();
+        if (!now.isBefore(yearMonth.plusMonths(1).atDay(1).atStartOfDay().plus(CLOSE_GRACE))) {
+            return closedSummaries.computeIfAbsent(yearMonth, this::load);
+        }
+        if (!yearMonth.equals(YearMonth.from(now))) {
+            return load(yearMonth);
+        }
+        return getCurrent(yearMonth);
+    }
+
+    /**
+     * 퀴즈 풀이 반영 (트랜잭션 안이면 커밋 후 반영)
+     */
+    public void recordSolve(UUID memberId, YearMonth yearMonth) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            applySolve(memberId, yearMonth);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                applySolve(memberId, yearMonth);
+            }
+        });
+    }
+
+    /**
+     * 커밋된 풀이마다 버전을 올리고, 스냅샷이 직전 버전까지 반영된 상태일 때만 증분 반영
+     * - 버전이 어긋난 스냅샷(집계 중 커밋된 풀이가 있었음)은 그대로 두어 다음 조회에서 재적재
+     */
+    private synchronized void applySolve(UUID memberId, YearMonth yearMonth) {
+        long previous = version.getAndIncrement();
+        CurrentSummary cached = current;
+        if (cached != null && cached.version() == previous && cached.yearMonth().equals(yearMonth)) {
+            current = cached.withSolve(memberId, previous + 1);
+        }
+    }
+
+    /**
+     * 버전은 집계 전에 읽음
+     * - 집계 중 커밋된 풀이가 없을 때만 보관 (있으면 반영 여부를 알 수 없으므로 다음 조회에서 재적재)
+     */
+    private QuizMonthSummary getCurrent(YearMonth yearMonth) {
+        long loadVersion = version.get();
+        long now = System.currentTimeMillis();
+        CurrentSummary cached = current;
+        if (cached != null && cached.isValid(yearMonth, loadVersion, now, currentTtlMillis)) {
+            return cached.summary();
+        }
+
+        QuizMonthSummary summary = load(yearMonth);
+        store(new CurrentSummary(yearMonth, loadVersion, now, summary));
+        return summary;
+    }
+
+    private synchronized void store(CurrentSummary loaded) {
+        if (loaded.version() == version.get()) {
+            current = loaded;
+        }
+    }
+
+    private QuizMonthSummary load(YearMonth yearMonth) {
+        return new QuizMonthSummary(quizMemberRepository.countByMemberAndSolvedAtRange(
+                yearMonth.atDay(1).atStartOfDay(),
+                yearMonth.plusMonths(1).atDay(1).atStartOfDay()
+        ));
+    }
+
+    private record CurrentSummary(YearMonth yearMonth, long version, long loadedAt, QuizMonthSummary summary) {
+
+        boolean isValid(YearMonth requested, long currentVersion, long now, long ttlMillis) {
+            return yearMonth.equals(requested) && version == currentVersion && now - loadedAt < ttlMillis;
+        }
+
+        CurrentSummary withSolve(UUID memberId, long newVersion) {
+            return new CurrentSummary(yearMonth, newVersion, loadedAt, summary.withSolve(memberId));
+        }
+    }
+}
@@ -0,0 +1,171 @@
+package com.shinhan.dongibuyeo.domain.quiz.cache;
+
+import com.shinhan.dongibuyeo.domain.quiz.dto.response.QuizResponse;
+import com.shinhan.dongibuyeo.domain.quiz.mapper.QuizMapper;
+import com.shinhan.dongibuyeo.domain.quiz.repository.QuizRepository;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 퀴즈 풀
+ * - 전체 퀴즈를 배열로 보관해 DB 조회 없이 O(1)로 랜덤 선택
+ * - 주기적으로 DB에서 다시 읽어 교체, 퀴즈 생성 시 커밋 후 바로 추가
+ * - 배열은 ULID 순으로 정렬해 새 퀴즈는 항상 끝에 붙도록 유지
+ * - no-repeat: 회원별로 풀을 한 바퀴 돌 때까지 같은 퀴즈를 다시 내지 않음 (회원 상태는 max-cycles 건까지만 보관)
+ */
+@Slf4j
+@Component
+public class QuizPool {
+
+    @Value("${shinhan.quiz.pool.no-repeat}")
+    private boolean noRepeat;
+
+    @Value("${shinhan.quiz.pool.max-cycles}")
+    private int maxCycles;
+
+    private final QuizRepository quizRepository;
+    private final QuizMapper quizMapper;
+    private final Map<UUID, QuizCycle> cycles = new ConcurrentHashMap<>();
+    private volatile QuizResponse[] quizzes = new QuizResponse[0];
+
+    public QuizPool(QuizRepository quizRepository, QuizMapper quizMapper) {
+        this.quizRepository = quizRepository;
+        this.quizMapper = quizMapper;
+    }
+
+    @Scheduled(fixedDelayString = "${shinhan.quiz.pool.refresh-interval-ms}")
+    public void reload() {
+        try {
+            QuizResponse[] loaded = quizRepository.findAll().stream()
+                    .map(quizMapper::toQuizResponse)
+                    .sorted(Comparator.comparing(QuizResponse::getId))
+                    .toArray(QuizResponse[]::new);
+            replace(loaded);
+        } catch (Exception e) {
+            log.error("[QuizPool] failed to reload quizzes", e);
+        }
+    }
+
+    /**
+     * 새 퀴즈 추가 (트랜잭션 안이면 커밋 후 반영)
+     */
+    public void add(QuizResponse quiz) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            append(quiz);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                append(quiz);
+            }
+        });
+    }
+
+    /**
+     * 랜덤 퀴즈 선택
+     * - no-repeat 이면 회원의 현재 순환에서 다음 퀴즈, 아니면 균등 랜덤
+     */
+    public QuizResponse pick(UUID memberId) {
+        QuizResponse[] snapshot = quizzes;
+        if (snapshot.length == 0) {
+            throw new EntityNotFoundException();
+        }
+        if (!noRepeat) {
+            return snapshot[ThreadLocalRandom.current().nextInt(snapshot.length)];
+        }
+
+        if (cycles.size() >= maxCycles && !cycles.containsKey(memberId)) {
+            // 존재하지 않는 회원 ID 등으로 상태가 계속 늘지 않도록 상한에서 초기화 (순환만 새로 시작)
+            cycles.clear();
+        }
+        QuizCycle cycle = cycles.compute(memberId, (id, current) ->
+                current == null || current.isExhausted(snapshot.length) ? QuizCycle.start(snapshot.length) : current.next());
+        return snapshot[cycle.index()];
+    }
+
+    private synchronized void append(QuizResponse quiz) {
+        QuizResponse[] current = quizzes;
+        for (QuizResponse existing : current) {
+            if (existing.getId().equals(quiz.getId())) {
+                return;
+            }
+        }
+        QuizResponse[] appended = Arrays.copyOf(current, current.length + 1);
+        appended[current.length] = quiz;
+        quizzes = appended;
+        // 풀 크기가 바뀌면 기존 순환의 인덱스 매핑이 달라지므로 새로 시작
+        cycles.clear();
+    }
+
+    /**
+     * DB에서 읽은 목록으로 교체
+     * - 조회 이후 커밋되어 먼저 추가된 퀴즈(스냅샷의 마지막 ULID보다 새로운 퀴즈)는 유지
+     */
+    private synchronized void replace(QuizResponse[] loaded) {
+        UUID loadedMax = loaded.length == 0 ? null : loaded[loaded.length - 1].getId();
+        QuizResponse[] newer = Arrays.stream(quizzes)
+                .filter(quiz -> loadedMax == null || quiz.getId().compareTo(loadedMax) > 0)
+                .toArray(QuizResponse[]::new);
+        QuizResponse[] merged = Arrays.copyOf(loaded, loaded.length + newer.length);
+        System.arraycopy(newer, 0, merged, loaded.length, newer.length);
+
+        if (merged.length != quizzes.length) {
+            cycles.clear();
+        }
+        quizzes = merged;
+    }
+
+    /**
+     * 회원별 퀴즈 순환
+     * - index(k) = (stride * k + offset) mod size, stride와 size가 서로소이면 k = 0..size-1 동안 모든 인덱스를 한 번씩 방문
+     * - 회원마다 stride, offset을 랜덤으로 정해 순서를 섞고, 상태는 정수 몇 개만 보관
+     */
+    private record QuizCycle(int size, int stride, int offset, int step) {
+
+        static QuizCycle start(int size) {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            int stride = 1;
+            if (size > 1) {
+                do {
+                    stride = 1 + random.nextInt(size - 1);
+                } while (gcd(stride, size) != 1);
+            }
+            return new QuizCycle(size, stride, random.nextInt(size), 0);
+        }
+
+        QuizCycle next() {
+            return new QuizCycle(size, stride, offset, step + 1);
+        }
+
+        boolean isExhausted(int poolSize) {
+            return size != poolSize || step + 1 >= size;
+        }
+
+        int index() {
+            return (int) (((long) stride * step + offset) % size);
+        }
+
+        private static int gcd(int a, int b) {
+            while (b != 0) {
+                int t = a % b;
+                a = b;
+                b = t;
+            }
+            return a;
+        }
+    }
+}
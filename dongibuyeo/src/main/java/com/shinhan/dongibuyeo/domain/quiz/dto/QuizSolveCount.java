@@ -0,0 +1,9 @@
+package com.shinhan.dongibuyeo.domain.quiz.dto;
+
+import java.util.UUID;
+
+/**
+ * 회원별 퀴즈 풀이 횟수
+ */
+public record QuizSolveCount(UUID memberId, long count) {
+}
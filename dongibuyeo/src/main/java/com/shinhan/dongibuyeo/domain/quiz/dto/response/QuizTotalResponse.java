@@ -10,4 +10,5 @@ import lombok.NoArgsConstructor;
 public class QuizTotalResponse {
     private Integer total;
     private Integer myBall;
+    private Integer solvers;
 }
@@ -1,24 +1,61 @@
 package com.shinhan.dongibuyeo.domain.quiz.repository;
 
 import com.shinhan.dongibuyeo.domain.member.entity.Member;
+import com.shinhan.dongibuyeo.domain.quiz.dto.QuizSolveCount;
 import com.shinhan.dongibuyeo.domain.quiz.entity.QuizMember;
+import com.shinhan.dongibuyeo.global.draw.DrawCandidate;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 public interface QuizMemberRepository extends JpaRepository<QuizMember, Long> {
 
-    @Query("SELECT qm FROM QuizMember qm WHERE qm.member.id = :memberId AND year(qm.solvedAt) = :year AND month(qm.solvedAt) = :month")
-    List<QuizMember> findAllByMemberAndDate(@Param("year") int year, @Param("month") int month, @Param("memberId") UUID memberId);
+    /**
+     * 회원의 기간 내 퀴즈 풀이 목록 [from, to)
+     * - (member_id, solved_at) 인덱스 범위 탐색
+     */
+    @Query("SELECT qm FROM QuizMember qm WHERE qm.member.id = :memberId AND qm.solvedAt >= :from AND qm.solvedAt < :to")
+    List<QuizMember> findAllByMemberAndSolvedAtRange(@Param("memberId") UUID memberId, @Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
+    @Query("SELECT COUNT(qm) > 0 FROM QuizMember qm WHERE qm.member.id = :memberId AND qm.solvedAt >= :from AND qm.solvedAt < :to")
+    Boolean existsByMemberAndSolvedAtRange(@Param("memberId") UUID memberId, @Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
+    /**
+     * 기간 내 퀴즈를 푼 회원 ID 목록 [from, to)
+     */
+    @Query("SELECT DISTINCT qm.member.id FROM QuizMember qm WHERE qm.solvedAt >= :from AND qm.solvedAt < :to")
+    List<UUID> findMemberIdsBySolvedAtRange(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
+    /**
+     * 기간 내 회원별 퀴즈 풀이 수 [from, to)
+     * - (solved_at, member_id) 인덱스만으로 집계
+     */
+    @Query("SELECT new com.shinhan.dongibuyeo.domain.quiz.dto.QuizSolveCount(qm.member.id, COUNT(qm)) " +
+            "FROM QuizMember qm " +
+            "WHERE qm.solvedAt >= :from AND qm.solvedAt < :to " +
+            "GROUP BY qm.member.id")
+    List<QuizSolveCount> countByMemberAndSolvedAtRange(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
+    /**
+     * 기간 내 퀴즈 풀이 회원 추첨 후보 스트림 [from, to)
+     * - 풀이 횟수를 가중치로 사용, 회원 ID 오름차순
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE))
+    @Query("SELECT new com.shinhan.dongibuyeo.global.draw.DrawCandidate(qm.member.id, COUNT(qm)) " +
+            "FROM QuizMember qm " +
+            "WHERE qm.solvedAt >= :from AND qm.solvedAt < :to " +
+            "GROUP BY qm.member.id " +
+            "ORDER BY qm.member.id")
+    Stream<DrawCandidate> streamDrawCandidates(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
 
-    @Query("SELECT COUNT(qm) > 0 FROM QuizMember qm WHERE qm.member.id = :memberId AND year(qm.solvedAt) = :year AND month(qm.solvedAt) = :month AND day(qm.solvedAt) = :day")
-    Boolean existsByMemberAndDate(@Param("memberId") UUID memberId, @Param("year") int year, @Param("month") int month, @Param("day") int day);
-
-    @Query(value = "SELECT qm FROM QuizMember qm JOIN FETCH qm.member WHERE year(qm.solvedAt) = :year AND month(qm.solvedAt) = :month")
-    List<QuizMember> findWinnerByYearAndMonth(@Param("year") int year, @Param("month") int month);
 
 
 }
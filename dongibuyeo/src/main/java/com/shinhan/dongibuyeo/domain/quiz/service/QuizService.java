@@ -3,6 +3,10 @@ package com.shinhan.dongibuyeo.domain.quiz.service;
 import com.shinhan.dongibuyeo.domain.member.dto.response.MemberResponse;
 import com.shinhan.dongibuyeo.domain.member.entity.Member;
 import com.shinhan.dongibuyeo.domain.member.service.MemberService;
+import com.shinhan.dongibuyeo.domain.quiz.cache.DailySolvedBitmap;
+import com.shinhan.dongibuyeo.domain.quiz.cache.QuizMonthSummary;
+import com.shinhan.dongibuyeo.domain.quiz.cache.QuizMonthSummaryCache;
+import com.shinhan.dongibuyeo.domain.quiz.cache.QuizPool;
 import com.shinhan.dongibuyeo.domain.quiz.dto.request.QuizMakeRequest;
 import com.shinhan.dongibuyeo.domain.quiz.dto.request.QuizSolveRequest;
 import com.shinhan.dongibuyeo.domain.quiz.dto.response.QuizResponse;
@@ -13,16 +17,18 @@ import com.shinhan.dongibuyeo.domain.quiz.entity.QuizMember;
 import com.shinhan.dongibuyeo.domain.quiz.mapper.QuizMapper;
 import com.shinhan.dongibuyeo.domain.quiz.repository.QuizMemberRepository;
 import com.shinhan.dongibuyeo.domain.quiz.repository.QuizRepository;
+import com.shinhan.dongibuyeo.global.draw.WinnerDrawService;
 import com.shinhan.dongibuyeo.global.slack.SlackComponent;
 import jakarta.persistence.EntityNotFoundException;
 import jakarta.transaction.Transactional;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.YearMonth;
 import java.util.*;
 
 @Service
@@ -33,34 +39,40 @@ public class QuizService {
     private MemberService memberService;
     private QuizMapper quizMapper;
     private SlackComponent slackComponent;
-    private HashMap<String,String> slackWinners = new HashMap<>();
+    private QuizPool quizPool;
+    private DailySolvedBitmap dailySolvedBitmap;
+    private QuizMonthSummaryCache quizMonthSummaryCache;
+    private WinnerDrawService winnerDrawService;
 
-    public QuizService(QuizRepository quizRepository, MemberService memberService, QuizMapper quizMapper, QuizMemberRepository quizMemberRepository, SlackComponent slackComponent) {
+    @Value("${shinhan.quiz.head-count}")
+    private int headCount;
+
+    public QuizService(QuizRepository quizRepository, MemberService memberService, QuizMapper quizMapper, QuizMemberRepository quizMemberRepository, SlackComponent slackComponent, QuizPool quizPool, DailySolvedBitmap dailySolvedBitmap, QuizMonthSummaryCache quizMonthSummaryCache, WinnerDrawService winnerDrawService) {
         this.quizRepository = quizRepository;
         this.memberService = memberService;
         this.quizMapper = quizMapper;
         this.quizMemberRepository = quizMemberRepository;
         this.slackComponent = slackComponent;
+        this.quizPool = quizPool;
+        this.dailySolvedBitmap = dailySolvedBitmap;
+        this.quizMonthSummaryCache = quizMonthSummaryCache;
+        this.winnerDrawService = winnerDrawService;
     }
 
     @Transactional
     public QuizResponse makeQuiz(QuizMakeRequest request) {
         Quiz quiz = quizRepository.save(quizMapper.toQuizEntity(request));
-        return quizMapper.toQuizResponse(quiz);
+        QuizResponse response = quizMapper.toQuizResponse(quiz);
+        quizPool.add(response);
+        return response;
     }
 
-    @Transactional
+    /**
+     * 랜덤 퀴즈 조회
+     * - DB를 거치지 않고 퀴즈 풀에서 선택
+     */
     public QuizResponse getRandomQuiz(UUID memberId) {
-        Member member = memberService.getMemberById(memberId);
-        Quiz quiz = quizRepository.findAll(getRandomIndex()).stream().findFirst().orElseThrow(EntityNotFoundException::new);
-        return quizMapper.toQuizResponse(quiz);
-    }
-
-    @Transactional
-    public Pageable getRandomIndex() {
-        long count = quizRepository.count();
-        int idx =  new Random().nextInt((int) count);
-        return PageRequest.of(idx,1);
+        return quizPool.pick(memberId);
     }
 
     @Transactional
@@ -71,6 +83,8 @@ public class QuizService {
 
         QuizMember quizMember = new QuizMember(member, quiz);
         member.getQuizMembers().add(quizMember);
+        dailySolvedBitmap.markSolved(member.getId(), quizMember.getSolvedAt().toLocalDate());
+        quizMonthSummaryCache.recordSolve(member.getId(), YearMonth.from(quizMember.getSolvedAt()));
 
         return quizMapper.toQuizSolveResponse(quizMember);
     }
@@ -79,33 +93,60 @@ public class QuizService {
         return quizRepository.findById(quizId).orElseThrow(EntityNotFoundException::new);
     }
 
+    /**
+     * 오늘 퀴즈 풀이 여부
+     * - 오늘 풀이 비트맵에 기록이 있으면 DB 조회 없이 true, 없으면 DB로 확인 (다른 인스턴스의 풀이 반영)
+     * - DB에서 풀이가 확인되면 비트맵에 기록해 다음 조회부터는 DB를 거치지 않음
+     */
     @Transactional
     public Boolean alreadyToday(UUID memberId) {
-        LocalDateTime now = LocalDateTime.now();
-        return quizMemberRepository.existsByMemberAndDate(memberId,now.getYear(),now.getMonthValue(),now.getDayOfMonth());
+        LocalDate today = LocalDate.now();
+        if (dailySolvedBitmap.isKnownSolved(memberId, today)) {
+            return true;
+        }
+        boolean solved = quizMemberRepository.existsByMemberAndSolvedAtRange(memberId, today.atStartOfDay(), today.plusDays(1).atStartOfDay());
+        if (solved) {
+            dailySolvedBitmap.markSolved(memberId, today);
+        }
+        return solved;
     }
 
 
     @Transactional
     public List<QuizSolveResponse> getMemberDateSolvedList(UUID memberId, Integer year, Integer month) {
-        List<QuizMember> solvedList = quizMemberRepository.findAllByMemberAndDate(year,month,memberId);
+        YearMonth yearMonth = YearMonth.of(year, month);
+        List<QuizMember> solvedList = quizMemberRepository.findAllByMemberAndSolvedAtRange(memberId, monthStart(yearMonth), monthStart(yearMonth.plusMonths(1)));
         return solvedList.stream().map(x -> quizMapper.toQuizSolveResponse(x)).toList();
     }
 
+    /**
+     * 월별 퀴즈 당첨자 추첨
+     * - 풀이 회원을 (회원 ID, 풀이 횟수)로 스트리밍하며 풀이 횟수 가중치로 저장소 샘플링
+     * - 추첨 시드는 월별로 기록되어 다시 추첨해도 같은 결과
+     */
     @Transactional
     public List<MemberResponse> getWinnerOfMonth(int year, int month) {
-        List<QuizMember> solvedList = quizMemberRepository.findWinnerByYearAndMonth(year,month);
-        Collections.shuffle(solvedList);
-
-        HashMap<UUID, Member> winners = new HashMap<>();
+        YearMonth yearMonth = YearMonth.of(year, month);
+        List<UUID> winnerIds = winnerDrawService.draw(
+                "QUIZ:" + yearMonth,
+                headCount,
+                () -> quizMemberRepository.streamDrawCandidates(monthStart(yearMonth), monthStart(yearMonth.plusMonths(1)))
+        );
+
+        Map<UUID, Member> members = new HashMap<>();
+        memberService.getMembersByIds(winnerIds).forEach(member -> members.put(member.getId(), member));
+
+        LinkedHashMap<UUID, Member> winners = new LinkedHashMap<>();
+        HashMap<String, String> slackWinners = new LinkedHashMap<>();
         slackWinners.put("EMAIL","NAME");
 
-        for(QuizMember quizMember : solvedList) {
-            winners.put(quizMember.getMember().getId(), quizMember.getMember());
-            slackWinners.put(quizMember.getMember().getEmail(), quizMember.getMember().getName());
-
-            if(winners.size() >= 42)
-                break;
+        for (UUID winnerId : winnerIds) {
+            Member member = members.get(winnerId);
+            if (member == null) {
+                continue;
+            }
+            winners.put(winnerId, member);
+            slackWinners.put(member.getEmail(), member.getName());
         }
 
         slackComponent.sendSlackMessage("QUIZ CHALLENGE : "+year+"년 "+month+"월 ",slackWinners);
@@ -113,13 +154,16 @@ public class QuizService {
         return quizMapper.toWinnerResponse(winners);
     }
 
-    @Transactional
+    /**
+     * 월별 퀴즈 풀이 수 조회
+     * - 월별 요약 캐시에서 전체 풀이 수, 본인 풀이 수, 풀이 회원 수 조회
+     */
     public QuizTotalResponse getQuizTotal(UUID memberId, Integer year, Integer month) {
-        List<QuizMember> solvedList = quizMemberRepository.findWinnerByYearAndMonth(year,month);
-        List<QuizMember> myList = solvedList.stream().filter(x -> x.getMember().getId().equals(memberId)).toList();
-        return new QuizTotalResponse(solvedList.size(), myList.size());
+        QuizMonthSummary summary = quizMonthSummaryCache.get(YearMonth.of(year, month));
+        return new QuizTotalResponse(summary.getTotal(), summary.getCount(memberId), summary.getSolvers());
     }
 
-
-
+    private LocalDateTime monthStart(YearMonth yearMonth) {
+        return yearMonth.atDay(1).atStartOfDay();
+    }
 }
@@ -0,0 +1,44 @@
+package com.shinhan.dongibuyeo.global.client;
+
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 외부 API 전역 호출량 제한 필터
+ * - 요청마다 다음 호출 가능 시각을 예약하고, 예약 시각까지 지연 후 요청 (초당 permitsPerSecond 건)
+ * - 스레드를 점유하지 않고 Mono.delay로 대기
+ */
+public class UpstreamRateLimitFilter implements ExchangeFilterFunction {
+
+    private final long intervalNanos;
+    private final AtomicLong nextSlot = new AtomicLong(System.nanoTime());
+
+    public UpstreamRateLimitFilter(int permitsPerSecond) {
+        this.intervalNanos = TimeUnit.SECONDS.toNanos(1) / permitsPerSecond;
+    }
+
+    @Override
+    public Mono<ClientResponse> filter(ClientRequest request, ExchangeFunction next) {
+        return Mono.defer(() -> {
+            long waitNanos = reserve();
+            if (waitNanos <= 0) {
+                return next.exchange(request);
+            }
+            return Mono.delay(Duration.ofNanos(waitNanos))
+                    .then(next.exchange(request));
+        });
+    }
+
+    private long reserve() {
+        long now = System.nanoTime();
+        long slot = nextSlot.getAndAccumulate(now, (reserved, current) -> Math.max(reserved, current) + intervalNanos);
+        return Math.max(slot, now) - now;
+    }
+}
@@ -0,0 +1,9 @@
+package com.shinhan.dongibuyeo.global.draw;
+
+import java.util.UUID;
+
+/**
+ * 추첨 후보 (후보 ID, 가중치)
+ */
+public record DrawCandidate(UUID id, long weight) {
+}
@@ -0,0 +1,65 @@
+package com.shinhan.dongibuyeo.global.draw;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.SplittableRandom;
+import java.util.UUID;
+
+/**
+ * 가중치 저장소 샘플링 (Efraimidis-Spirakis A-Res)
+ * - 후보마다 key = ln(u) / weight (u ~ (0, 1]) 를 뽑아 key가 큰 k개를 최소 힙으로 유지
+ * - 가중치에 비례한 비복원 추첨과 같은 분포, 가중치가 모두 같으면 균등 추첨
+ * - 메모리는 후보 수와 무관하게 O(k), 같은 시드와 같은 후보 순서면 같은 결과
+ */
+class WeightedReservoir {
+
+    private final int size;
+    private final SplittableRandom random;
+    private final PriorityQueue<Entry> heap;
+    private long candidates;
+    private long totalWeight;
+
+    WeightedReservoir(int size, long seed) {
+        this.size = size;
+        this.random = new SplittableRandom(seed);
+        this.heap = new PriorityQueue<>(Math.max(size, 1), Comparator.comparingDouble(Entry::key));
+    }
+
+    void offer(DrawCandidate candidate) {
+        if (candidate.weight() <= 0) {
+            return;
+        }
+        candidates++;
+        totalWeight += candidate.weight();
+
+        double key = Math.log(1.0 - random.nextDouble()) / candidate.weight();
+        if (heap.size() < size) {
+            heap.add(new Entry(candidate.id(), key));
+        } else if (size > 0 && key > heap.peek().key()) {
+            heap.poll();
+            heap.add(new Entry(candidate.id(), key));
+        }
+    }
+
+    /**
+     * 당첨자 ID (key 내림차순 = 추첨 순서)
+     */
+    List<UUID> winners() {
+        List<Entry> entries = new ArrayList<>(heap);
+        entries.sort(Comparator.comparingDouble(Entry::key).reversed());
+        return entries.stream().map(Entry::id).toList();
+    }
+
+    long getCandidates() {
+        return candidates;
+    }
+
+    long getTotalWeight() {
+        return totalWeight;
+    }
+
+    private record Entry(UUID id, double key) {
+    }
+}
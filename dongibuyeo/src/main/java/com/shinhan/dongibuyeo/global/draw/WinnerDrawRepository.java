@@ -0,0 +1,50 @@
+package com.shinhan.dongibuyeo.global.draw;
+
+import com.github.f4b6a3.ulid.UlidCreator;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import static com.shinhan.dongibuyeo.global.util.UuidBytes.toBytes;
+import static com.shinhan.dongibuyeo.global.util.UuidBytes.toUuid;
+
+/**
+ * 추첨 기록 저장소
+ * - 추첨을 실행할 때마다 한 행씩 (시드, 후보 수, 총 가중치, 당첨자)를 남겨 실행별로 재현 가능하도록 보관
+ * - 같은 키의 시드는 처음 기록된 값을 사용
+ */
+@Repository
+public class WinnerDrawRepository {
+
+    private static final String FIND_SEED_SQL = "SELECT seed FROM winner_draw WHERE draw_key = ? ORDER BY id LIMIT 1";
+
+    private static final String INSERT_SQL = "INSERT INTO winner_draw " +
+            "(id, draw_key, seed, candidate_count, total_weight, winner_count, winner_ids, created_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, NOW(6))";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public WinnerDrawRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public Optional<Long> findSeed(String drawKey) {
+        return jdbcTemplate.queryForList(FIND_SEED_SQL, Long.class, drawKey).stream().findFirst();
+    }
+
+    public void save(String drawKey, long seed, long candidateCount, long totalWeight, List<UUID> winners) {
+        jdbcTemplate.update(INSERT_SQL,
+                toBytes(UlidCreator.getMonotonicUlid().toUuid()),
+                drawKey,
+                seed,
+                candidateCount,
+                totalWeight,
+                winners.size(),
+                winners.stream().map(UUID::toString).collect(Collectors.joining(","))
+        );
+    }
+}
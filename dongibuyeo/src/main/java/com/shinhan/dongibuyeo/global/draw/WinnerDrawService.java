@@ -0,0 +1,52 @@
+package com.shinhan.dongibuyeo.global.draw;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.security.SecureRandom;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * 당첨자 추첨 서비스
+ * - 후보를 DB 커서로 스트리밍하며 저장소 샘플링, 전체 후보를 메모리에 올리지 않음
+ * - 추첨 키별로 시드를 기록하고, 같은 키로 다시 추첨하면 기록된 시드를 재사용 (후보가 같으면 같은 결과)
+ * - 기간 마감 전 조회 등으로 후보가 달라질 수 있으므로 결과는 실행마다 따로 기록
+ * - 재현을 위해 후보 스트림은 항상 같은 순서(ID 오름차순)로 제공해야 함
+ */
+@Slf4j
+@Service
+public class WinnerDrawService {
+
+    private final WinnerDrawRepository winnerDrawRepository;
+    private final SecureRandom seedSource = new SecureRandom();
+
+    public WinnerDrawService(WinnerDrawRepository winnerDrawRepository) {
+        this.winnerDrawRepository = winnerDrawRepository;
+    }
+
+    /**
+     * 당첨자 추첨
+     * - 스트리밍 결과셋이 열린 동안에는 같은 커넥션을 쓸 수 없으므로 기록은 스트림을 닫은 뒤 저장
+     *
+     * @param drawKey    추첨 키 (예: QUIZ:2024-09)
+     * @param count      당첨자 수
+     * @param candidates 후보 스트림 (호출 측 트랜잭션 안에서 열림)
+     * @return 당첨자 ID (추첨 순서)
+     */
+    public List<UUID> draw(String drawKey, int count, Supplier<Stream<DrawCandidate>> candidates) {
+        long seed = winnerDrawRepository.findSeed(drawKey).orElseGet(seedSource::nextLong);
+
+        WeightedReservoir reservoir = new WeightedReservoir(count, seed);
+        try (Stream<DrawCandidate> stream = candidates.get()) {
+            stream.forEach(reservoir::offer);
+        }
+
+        List<UUID> winners = reservoir.winners();
+        winnerDrawRepository.save(drawKey, seed, reservoir.getCandidates(), reservoir.getTotalWeight(), winners);
+        log.info("[WinnerDraw] key: {}, seed: {}, candidates: {}, winners: {}", drawKey, seed, reservoir.getCandidates(), winners.size());
+        return winners;
+    }
+}
@@ -1,5 +1,21 @@
 package com.shinhan.dongibuyeo.global.entity;
 
+import java.util.Arrays;
+import java.util.Optional;
+
 public enum TransferType {
-    CHALLENGE, COFFEE, DRINK, DELIVERY, SEVEN, QUIZ
+    CHALLENGE, COFFEE, DRINK, DELIVERY, SEVEN, QUIZ;
+
+    /**
+     * 거래 적요(ex. COFFEE출금)의 접두어로 이체 타입 판별
+     */
+    public static Optional<TransferType> fromSummary(String summary) {
+        if (summary == null) {
+            return Optional.empty();
+        }
+
+        return Arrays.stream(values())
+                .filter(type -> summary.startsWith(type.toString()))
+                .findFirst();
+    }
 }
@@ -0,0 +1,29 @@
+package com.shinhan.dongibuyeo.global.lock;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 스케줄 작업 분산 락
+ * - 여러 인스턴스 중 락을 획득한 1대에서만 실행, 획득 실패 시 실행하지 않고 건너뜀
+ * - 실행 중에는 heartbeat로 lease를 연장하고, 종료 후에도 lockAtLeastSeconds 동안은 락 유지
+ *   (인스턴스 간 시계 차이로 같은 주기를 다시 실행하는 것 방지)
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface SchedulerLock {
+
+    String name();
+
+    /**
+     * 락 보유 기간 (인스턴스가 죽었을 때 다른 인스턴스가 가져갈 수 있는 시간)
+     */
+    long leaseSeconds() default 300;
+
+    /**
+     * 작업이 빨리 끝나도 락을 유지할 최소 시간
+     */
+    long lockAtLeastSeconds() default 30;
+}
@@ -0,0 +1,116 @@
+package com.shinhan.dongibuyeo.global.lock;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 스케줄 작업 분산 락 Aspect
+ * - 트랜잭션보다 먼저 적용되도록 가장 높은 우선순위로 실행
+ * - 메트릭: scheduler.lock.acquire (result=acquired|skipped|error), scheduler.lock.held
+ */
+@Slf4j
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class SchedulerLockAspect {
+
+    private final SchedulerLockRepository schedulerLockRepository;
+    private final MeterRegistry meterRegistry;
+    private final String owner;
+    private final ScheduledExecutorService heartbeat = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "scheduler-lock-heartbeat");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public SchedulerLockAspect(SchedulerLockRepository schedulerLockRepository, MeterRegistry meterRegistry) {
+        this.schedulerLockRepository = schedulerLockRepository;
+        this.meterRegistry = meterRegistry;
+        this.owner = hostName() + ":" + UUID.randomUUID();
+    }
+
+    @Around("@annotation(schedulerLock)")
+    public Object runWithLock(ProceedingJoinPoint joinPoint, SchedulerLock schedulerLock) throws Throwable {
+        String name = schedulerLock.name();
+
+        boolean acquired;
+        try {
+            acquired = schedulerLockRepository.tryAcquire(name, owner, schedulerLock.leaseSeconds());
+        } catch (Exception e) {
+            count(name, "error");
+            log.error("[SchedulerLock] failed to acquire lock: {}", name, e);
+            return null;
+        }
+
+        if (!acquired) {
+            count(name, "skipped");
+            log.debug("[SchedulerLock] lock {} is held by another instance, skipping", name);
+            return null;
+        }
+        count(name, "acquired");
+
+        long heartbeatSeconds = Math.max(1, schedulerLock.leaseSeconds() / 3);
+        ScheduledFuture<?> extension = heartbeat.scheduleAtFixedRate(
+                () -> extend(name, schedulerLock.leaseSeconds()),
+                heartbeatSeconds,
+                heartbeatSeconds,
+                TimeUnit.SECONDS
+        );
+
+        Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            return joinPoint.proceed();
+        } finally {
+            extension.cancel(false);
+            sample.stop(meterRegistry.timer("scheduler.lock.held", "name", name));
+            try {
+                schedulerLockRepository.release(name, owner, schedulerLock.lockAtLeastSeconds());
+            } catch (Exception e) {
+                log.error("[SchedulerLock] failed to release lock: {}", name, e);
+            }
+        }
+    }
+
+    private void extend(String name, long leaseSeconds) {
+        try {
+            if (!schedulerLockRepository.extend(name, owner, leaseSeconds)) {
+                log.warn("[SchedulerLock] lost lock while running: {}", name);
+            }
+        } catch (Exception e) {
+            log.error("[SchedulerLock] failed to extend lock: {}", name, e);
+        }
+    }
+
+    private void count(String name, String result) {
+        meterRegistry.counter("scheduler.lock.acquire", "name", name, "result", result).increment();
+    }
+
+    private static String hostName() {
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            return "unknown";
+        }
+    }
+
+    @PreDestroy
+    public void stop() {
+        heartbeat.shutdownNow();
+    }
+}
@@ -0,0 +1,49 @@
+package com.shinhan.dongibuyeo.global.lock;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 스케줄러 락 테이블 저장소
+ * - 시각 비교는 모두 DB 시간(NOW)을 기준으로 해 인스턴스 간 시계 차이 영향을 받지 않는다.
+ * - 작업 트랜잭션과 분리되도록 JdbcTemplate auto-commit으로 실행
+ */
+@Repository
+public class SchedulerLockRepository {
+
+    private static final String INSERT_SQL = "INSERT IGNORE INTO scheduler_lock (name, owner, locked_at, lock_until) " +
+            "VALUES (?, ?, NOW(6), NOW(6) + INTERVAL ? SECOND)";
+
+    private static final String TAKE_OVER_SQL = "UPDATE scheduler_lock " +
+            "SET owner = ?, locked_at = NOW(6), lock_until = NOW(6) + INTERVAL ? SECOND " +
+            "WHERE name = ? AND lock_until <= NOW(6)";
+
+    private static final String EXTEND_SQL = "UPDATE scheduler_lock " +
+            "SET lock_until = NOW(6) + INTERVAL ? SECOND " +
+            "WHERE name = ? AND owner = ?";
+
+    private static final String RELEASE_SQL = "UPDATE scheduler_lock " +
+            "SET lock_until = GREATEST(NOW(6), locked_at + INTERVAL ? SECOND) " +
+            "WHERE name = ? AND owner = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public SchedulerLockRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public boolean tryAcquire(String name, String owner, long leaseSeconds) {
+        if (jdbcTemplate.update(INSERT_SQL, name, owner, leaseSeconds) > 0) {
+            return true;
+        }
+        return jdbcTemplate.update(TAKE_OVER_SQL, owner, leaseSeconds, name) > 0;
+    }
+
+    public boolean extend(String name, String owner, long leaseSeconds) {
+        return jdbcTemplate.update(EXTEND_SQL, leaseSeconds, name, owner) > 0;
+    }
+
+    public void release(String name, String owner, long lockAtLeastSeconds) {
+        jdbcTemplate.update(RELEASE_SQL, lockAtLeastSeconds, name, owner);
+    }
+}
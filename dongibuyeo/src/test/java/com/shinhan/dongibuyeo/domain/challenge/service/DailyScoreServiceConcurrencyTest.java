@@ -0,0 +1,164 @@
+package com.shinhan.dongibuyeo.domain.challenge.service;
+
+import com.shinhan.dongibuyeo.domain.challenge.entity.Challenge;
+import com.shinhan.dongibuyeo.domain.challenge.entity.ChallengeType;
+import com.shinhan.dongibuyeo.domain.challenge.entity.DailyScore;
+import com.shinhan.dongibuyeo.domain.challenge.entity.DailyScoreEvent;
+import com.shinhan.dongibuyeo.domain.challenge.entity.MemberChallenge;
+import com.shinhan.dongibuyeo.domain.challenge.repository.ChallengeRepository;
+import com.shinhan.dongibuyeo.domain.challenge.repository.DailyScoreEventRepository;
+import com.shinhan.dongibuyeo.domain.challenge.repository.DailyScoreJdbcRepository;
+import com.shinhan.dongibuyeo.domain.challenge.repository.DailyScoreRepository;
+import com.shinhan.dongibuyeo.domain.challenge.repository.MemberChallengeRepository;
+import com.shinhan.dongibuyeo.domain.challenge.score.leaderboard.LeaderboardRegistry;
+import com.shinhan.dongibuyeo.domain.consume.service.ConsumeService;
+import com.shinhan.dongibuyeo.domain.member.entity.Member;
+import com.shinhan.dongibuyeo.domain.member.repository.MemberRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 점수 반영 동시성 테스트
+ * - 같은 일일 점수/회원 챌린지에 점수 이벤트를 병렬로 반영해도 누적 점수가 유실되지 않는지 확인
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.url=jdbc:h2:mem:score;MODE=MySQL;LOCK_TIMEOUT=10000;DB_CLOSE_DELAY=-1",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.database=h2",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.show-sql=false",
+        "shinhan.score.daily-batch-size=1000"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import(DailyScoreService.class)
+class DailyScoreServiceConcurrencyTest {
+
+    private static final int THREADS = 16;
+    private static final int EVENTS = 200;
+    private static final int SCORE = 5;
+
+    @Autowired
+    private DailyScoreService dailyScoreService;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private ChallengeRepository challengeRepository;
+
+    @Autowired
+    private MemberChallengeRepository memberChallengeRepository;
+
+    @Autowired
+    private DailyScoreRepository dailyScoreRepository;
+
+    @Autowired
+    private DailyScoreEventRepository dailyScoreEventRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @MockBean
+    private DailyScoreJdbcRepository dailyScoreJdbcRepository;
+
+    @MockBean
+    private MemberChallengeService memberChallengeService;
+
+    @MockBean
+    private ConsumeService consumeService;
+
+    @MockBean
+    private LeaderboardRegistry leaderboardRegistry;
+
+    private DailyScore dailyScore;
+    private MemberChallenge memberChallenge;
+
+    @BeforeEach
+    void setUp() {
+        // ULID를 미리 발급하는 엔티티라 save가 merge로 동작하므로, 연관관계가 채워진 원본 인스턴스를 그대로 사용
+        Member member = Member.builder()
+                .email("score-" + System.nanoTime() + "@dongibuyeo-test.com")
+                .name("tester")
+                .nickname("tester")
+                .build();
+        Challenge challenge = Challenge.builder()
+                .type(ChallengeType.CONSUMPTION_COFFEE)
+                .startDate(LocalDate.now())
+                .endDate(LocalDate.now().plusDays(7))
+                .title("coffee")
+                .build();
+        memberChallenge = new MemberChallenge(member, challenge, 10000L);
+        dailyScore = new DailyScore(memberChallenge, LocalDate.now());
+
+        memberRepository.save(member);
+        challengeRepository.save(challenge);
+        memberChallengeRepository.save(memberChallenge);
+        dailyScoreRepository.save(dailyScore);
+    }
+
+    @Test
+    void parallelScoreEventsAreNotLost() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+
+        for (int i = 0; i < EVENTS; i++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                dailyScoreService.addScore(dailyScore, "STRESS", SCORE);
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(60, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        List<DailyScoreEvent> events = dailyScoreEventRepository.findAllByMemberChallengeId(memberChallenge.getId());
+        int eventSum = events.stream().mapToInt(DailyScoreEvent::getScore).sum();
+
+        assertThat(events).hasSize(EVENTS);
+        assertThat(events).allSatisfy(event -> assertThat(event.getDailyScore().getId()).isEqualTo(dailyScore.getId()));
+        assertThat(eventSum).isEqualTo(EVENTS * SCORE);
+        assertThat(dailyScoreRepository.findById(dailyScore.getId()).orElseThrow().getTotalScore()).isEqualTo(eventSum);
+        assertThat(memberChallengeRepository.findById(memberChallenge.getId()).orElseThrow().getTotalScore()).isEqualTo(eventSum);
+        // 이벤트마다 자신의 반영까지 포함한 누적 점수를 기록 (SCORE, 2 * SCORE, ..., EVENTS * SCORE)
+        assertThat(events.stream().map(DailyScoreEvent::getCurrentTotalScore).distinct()).hasSize(EVENTS);
+        assertThat(events.stream().mapToInt(DailyScoreEvent::getCurrentTotalScore).max().orElseThrow()).isEqualTo(eventSum);
+    }
+
+    @Test
+    void managedEntitiesSeeIncrementedTotals() {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            DailyScore managed = dailyScoreRepository.findById(dailyScore.getId()).orElseThrow();
+            MemberChallenge managedMemberChallenge = memberChallengeRepository.findById(memberChallenge.getId()).orElseThrow();
+            int dailyBefore = managed.getTotalScore();
+            int memberBefore = managedMemberChallenge.getTotalScore();
+
+            dailyScoreService.addScore(managed, "STALE_CHECK", SCORE);
+
+            assertThat(managed.getTotalScore()).isEqualTo(dailyBefore + SCORE);
+            assertThat(managedMemberChallenge.getTotalScore()).isEqualTo(memberBefore + SCORE);
+        });
+    }
+}